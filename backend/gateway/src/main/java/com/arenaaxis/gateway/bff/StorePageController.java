@@ -0,0 +1,34 @@
+package com.arenaaxis.gateway.bff;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/bff/stores")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class StorePageController {
+  StorePageService storePageService;
+
+  @GetMapping("/{id}/page")
+  public Mono<ResponseEntity<StorePageResponse>> storePage(
+    @PathVariable("id") String id,
+    @RequestParam(value = "sportId", required = false) String sportId,
+    @RequestParam(value = "date", required = false)
+    @DateTimeFormat(pattern = "yyyy/MM/dd")
+    LocalDate date
+  ) {
+    return storePageService.storePage(id, sportId, date == null ? LocalDate.now() : date);
+  }
+}
@@ -0,0 +1,27 @@
+package com.arenaaxis.gateway.bff;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StorePageResponse {
+  JsonNode store;
+  JsonNode ratings;
+  JsonNode fields;
+  Boolean suspended;
+  Boolean favourite;
+  Map<String, String> errors;
+}
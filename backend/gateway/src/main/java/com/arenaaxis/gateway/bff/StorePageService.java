@@ -0,0 +1,170 @@
+package com.arenaaxis.gateway.bff;
+
+import com.arenaaxis.gateway.filter.BulkheadFilter;
+import com.arenaaxis.gateway.identity.InternalIdentitySigner;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreaker;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class StorePageService {
+  private static final DateTimeFormatter SUSPEND_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+  private static final String ORDER_SERVICE = "order-service";
+
+  private final WebClient webClient;
+  private final InternalIdentitySigner internalIdentitySigner;
+  private final ReactiveCircuitBreaker orderServiceCircuitBreaker;
+  private final BulkheadFilter bulkheadFilter;
+  private final int orderServiceMaxConcurrentCalls;
+  private final String userServiceUrl;
+  private final String orderServiceUrl;
+  private final Duration sectionTimeout;
+
+  public StorePageService(
+    WebClient.Builder webClientBuilder,
+    InternalIdentitySigner internalIdentitySigner,
+    ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory,
+    BulkheadFilter bulkheadFilter,
+    @Value("${user-service.url}") String userServiceUrl,
+    @Value("${order-service.url}") String orderServiceUrl,
+    @Value("${order-service.max-concurrent-calls}") int orderServiceMaxConcurrentCalls,
+    @Value("${gateway.bff.section-timeout-ms}") long sectionTimeoutMillis
+  ) {
+    this.webClient = webClientBuilder.build();
+    this.internalIdentitySigner = internalIdentitySigner;
+    this.orderServiceCircuitBreaker = circuitBreakerFactory.create(ORDER_SERVICE);
+    this.bulkheadFilter = bulkheadFilter;
+    this.orderServiceMaxConcurrentCalls = orderServiceMaxConcurrentCalls;
+    this.userServiceUrl = userServiceUrl;
+    this.orderServiceUrl = orderServiceUrl;
+    this.sectionTimeout = Duration.ofMillis(sectionTimeoutMillis);
+  }
+
+  public Mono<ResponseEntity<StorePageResponse>> storePage(String storeId, String sportId, LocalDate date) {
+    return ReactiveSecurityContextHolder.getContext()
+      .map(SecurityContext::getAuthentication)
+      .filter(JwtAuthenticationToken.class::isInstance)
+      .map(JwtAuthenticationToken.class::cast)
+      .map(Optional::of)
+      .defaultIfEmpty(Optional.empty())
+      .flatMap(authentication -> aggregate(storeId, sportId, date, authentication));
+  }
+
+  private Mono<ResponseEntity<StorePageResponse>> aggregate(
+    String storeId,
+    String sportId,
+    LocalDate date,
+    Optional<JwtAuthenticationToken> authentication
+  ) {
+    Map<String, String> errors = new LinkedHashMap<>();
+    Consumer<HttpHeaders> credentials = headers -> authentication.ifPresent(token -> {
+      headers.setBearerAuth(token.getToken().getTokenValue());
+      internalIdentitySigner.sign(token.getToken())
+        .ifPresent(identity -> headers.set(InternalIdentitySigner.HEADER, identity));
+    });
+
+    Mono<Optional<JsonNode>> store = section("store", errors,
+      get(userServiceUrl + "/stores/detail/{id}", credentials, storeId));
+    Mono<Optional<JsonNode>> ratings = section("ratings", errors,
+      sportId == null
+        ? get(userServiceUrl + "/stores/{id}/ratings", credentials, storeId)
+        : get(userServiceUrl + "/stores/{id}/ratings?sportId={sportId}", credentials, storeId, sportId));
+    Mono<Optional<JsonNode>> fields = section("fields", errors,
+      sportId == null
+        ? getOrderService(orderServiceUrl + "/fields?store_id={id}", credentials, storeId)
+        : getOrderService(orderServiceUrl + "/fields?store_id={id}&sport_id={sportId}", credentials, storeId, sportId));
+    Mono<Optional<JsonNode>> suspend = section("suspended", errors,
+      get(userServiceUrl + "/stores/{id}/check-suspend?date={date}", credentials,
+        storeId, date.format(SUSPEND_DATE_FORMAT)));
+    Mono<Optional<JsonNode>> favourites = authentication.isPresent()
+      ? section("favourite", errors, get(userServiceUrl + "/favourites/store/{id}", credentials, storeId))
+      : Mono.just(Optional.empty());
+
+    return Mono.zip(store, ratings, fields, suspend, favourites)
+      .map(sections -> {
+        StorePageResponse response = StorePageResponse.builder()
+          .store(sections.getT1().orElse(null))
+          .ratings(sections.getT2().orElse(null))
+          .fields(sections.getT3().map(body -> body.path("data")).orElse(null))
+          .suspended(sections.getT4().map(body -> body.path("suspended").asBoolean()).orElse(null))
+          .favourite(sections.getT5().map(body -> body.path("favourite").asBoolean())
+            .orElse(authentication.isPresent() ? null : false))
+          .errors(errors.isEmpty() ? null : errors)
+          .build();
+
+        return ResponseEntity.ok(response);
+      });
+  }
+
+  private Mono<JsonNode> get(String uri, Consumer<HttpHeaders> credentials, Object... variables) {
+    return webClient.get()
+      .uri(uri, variables)
+      .headers(credentials)
+      .retrieve()
+      .bodyToMono(JsonNode.class);
+  }
+
+  // Same circuit breaker and bulkhead instances as the order-service routes; only 5xx trips the breaker there too
+  private Mono<JsonNode> getOrderService(String uri, Consumer<HttpHeaders> credentials, Object... variables) {
+    Mono<ResponseEntity<JsonNode>> call = webClient.get()
+      .uri(uri, variables)
+      .headers(credentials)
+      .exchangeToMono(response -> response.toEntity(JsonNode.class))
+      .flatMap(entity -> entity.getStatusCode().is5xxServerError()
+        ? Mono.error(new ResponseStatusException(entity.getStatusCode()))
+        : Mono.just(entity));
+
+    return orderServiceCircuitBreaker
+      .run(bulkheadFilter.run(ORDER_SERVICE, orderServiceMaxConcurrentCalls, call))
+      .flatMap(entity -> entity.getStatusCode().isError()
+        ? Mono.error(new ResponseStatusException(entity.getStatusCode()))
+        : Mono.justOrEmpty(entity.getBody()));
+  }
+
+  private Mono<Optional<JsonNode>> section(String name, Map<String, String> errors, Mono<JsonNode> call) {
+    return call
+      .timeout(sectionTimeout)
+      .map(Optional::of)
+      .defaultIfEmpty(Optional.empty())
+      .onErrorResume(error -> {
+        log.warn("Store page section {} degraded: {}", name, error.getMessage());
+        synchronized (errors) {
+          errors.put(name, describe(error));
+        }
+        return Mono.just(Optional.empty());
+      });
+  }
+
+  private String describe(Throwable error) {
+    if (error instanceof TimeoutException) return "TIMEOUT";
+    if (error instanceof WebClientResponseException responseException) {
+      return "UPSTREAM_" + responseException.getStatusCode().value();
+    }
+    if (error instanceof ResponseStatusException statusException) {
+      return "UPSTREAM_" + statusException.getStatusCode().value();
+    }
+    return "UNAVAILABLE";
+  }
+}
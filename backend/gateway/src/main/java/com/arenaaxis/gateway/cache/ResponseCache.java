@@ -0,0 +1,87 @@
+package com.arenaaxis.gateway.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class ResponseCache {
+  private final Map<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final long maxBytes;
+  private final long maxEntryBytes;
+  private long totalBytes;
+
+  public ResponseCache(
+    MeterRegistry meterRegistry,
+    @Value("${gateway.response-cache.max-bytes}") long maxBytes,
+    @Value("${gateway.response-cache.max-entry-bytes}") long maxEntryBytes
+  ) {
+    this.maxBytes = maxBytes;
+    this.maxEntryBytes = maxEntryBytes;
+    Gauge.builder("gateway.response.cache.bytes", this, ResponseCache::totalBytes)
+      .register(meterRegistry);
+    Gauge.builder("gateway.response.cache.entries", this, ResponseCache::size)
+      .register(meterRegistry);
+  }
+
+  public synchronized CachedResponse get(String key) {
+    CachedResponse cached = entries.get(key);
+    if (cached == null) return null;
+
+    if (cached.getExpiresAt().isBefore(Instant.now())) {
+      remove(key);
+      return null;
+    }
+    return cached;
+  }
+
+  public synchronized void put(String key, CachedResponse response) {
+    if (response.getBody().length > maxEntryBytes) return;
+
+    remove(key);
+    entries.put(key, response);
+    totalBytes += response.getBody().length;
+
+    Iterator<CachedResponse> eldest = entries.values().iterator();
+    while (totalBytes > maxBytes && eldest.hasNext()) {
+      totalBytes -= eldest.next().getBody().length;
+      eldest.remove();
+    }
+  }
+
+  private void remove(String key) {
+    CachedResponse removed = entries.remove(key);
+    if (removed != null) totalBytes -= removed.getBody().length;
+  }
+
+  private synchronized long totalBytes() {
+    return totalBytes;
+  }
+
+  private synchronized int size() {
+    return entries.size();
+  }
+
+  @Getter
+  public static class CachedResponse {
+    private final byte[] body;
+    private final MediaType contentType;
+    private final String etag;
+    private final Instant expiresAt;
+
+    public CachedResponse(byte[] body, MediaType contentType, String etag, Instant expiresAt) {
+      this.body = body;
+      this.contentType = contentType;
+      this.etag = etag;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -1,5 +1,9 @@
 package com.arenaaxis.gateway.config;
 
+import com.arenaaxis.gateway.revocation.TokenRevocationCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
@@ -32,28 +36,58 @@ public class CustomReactiveJwtDecoder implements ReactiveJwtDecoder {
 
   private NimbusReactiveJwtDecoder nimbusJwtDecoder;
   private final WebClient webClient;
+  private final TokenRevocationCache revocationCache;
 
-  public CustomReactiveJwtDecoder(WebClient.Builder webClientBuilder) {
+  private final Counter localVerifications;
+  private final Counter introspectFallbacks;
+  private final Counter revokedRejections;
+
+  public CustomReactiveJwtDecoder(
+    WebClient.Builder webClientBuilder,
+    TokenRevocationCache revocationCache,
+    MeterRegistry meterRegistry
+  ) {
     this.webClient = webClientBuilder.build();
+    this.revocationCache = revocationCache;
+    this.localVerifications = Counter.builder("gateway.jwt.decode")
+      .tag("mode", "local")
+      .register(meterRegistry);
+    this.introspectFallbacks = Counter.builder("gateway.jwt.decode")
+      .tag("mode", "introspect")
+      .register(meterRegistry);
+    this.revokedRejections = Counter.builder("gateway.jwt.rejected")
+      .tag("reason", "revoked")
+      .register(meterRegistry);
+  }
+
+  @PostConstruct
+  void init() {
+    SecretKeySpec secretKeySpec = new SecretKeySpec(signerKey.getBytes(), "HS512");
+    nimbusJwtDecoder = NimbusReactiveJwtDecoder
+      .withSecretKey(secretKeySpec)
+      .macAlgorithm(MacAlgorithm.HS512)
+      .build();
   }
 
   @Override
   public Mono<Jwt> decode(String token) throws JwtException {
-    return introspectToken(token)
-      .flatMap(valid -> {
-        if (Boolean.FALSE.equals(valid)) {
-          return Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid token"));
+    return nimbusJwtDecoder.decode(token)
+      .flatMap(jwt -> {
+        if (revocationCache.isRevoked(jwt.getId())) {
+          revokedRejections.increment();
+          return Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token revoked"));
         }
 
-        if (nimbusJwtDecoder == null) {
-          SecretKeySpec secretKeySpec = new SecretKeySpec(signerKey.getBytes(), "HS512");
-          nimbusJwtDecoder = NimbusReactiveJwtDecoder
-            .withSecretKey(secretKeySpec)
-            .macAlgorithm(MacAlgorithm.HS512)
-            .build();
+        if (revocationCache.isStale()) {
+          introspectFallbacks.increment();
+          return introspectToken(token)
+            .flatMap(valid -> Boolean.TRUE.equals(valid)
+              ? Mono.just(jwt)
+              : Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid token")));
         }
 
-        return nimbusJwtDecoder.decode(token);
+        localVerifications.increment();
+        return Mono.just(jwt);
       })
       .doOnError(error -> log.error("JWT decode error: {}", error.getMessage()));
   }
@@ -0,0 +1,24 @@
+package com.arenaaxis.gateway.config;
+
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HttpClientMetricsConfig {
+  @Bean
+  public HttpClientCustomizer upstreamMetricsCustomizer() {
+    return httpClient -> httpClient.metrics(true, HttpClientMetricsConfig::firstSegment);
+  }
+
+  private static String firstSegment(String uri) {
+    int scheme = uri.indexOf("//");
+    int start = scheme < 0 ? uri.indexOf('/') : uri.indexOf('/', scheme + 2);
+    if (start < 0) return "/";
+
+    int end = uri.indexOf('/', start + 1);
+    int query = uri.indexOf('?', start + 1);
+    if (query >= 0 && (end < 0 || query < end)) end = query;
+    return end < 0 ? uri.substring(start) : uri.substring(start, end);
+  }
+}
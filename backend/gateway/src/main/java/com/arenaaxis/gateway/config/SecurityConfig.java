@@ -51,7 +51,8 @@ public class SecurityConfig {
     "/api/v1/fields/*",
     "/api/v1/field-pricings/*",
     "/api/v1/field-pricings/special/*",
-    "/api/updateOrderStatus"
+    "/api/updateOrderStatus",
+    "/bff/stores/*/page"
   };
 
   static String[] PUBLIC_POST_ENDPOINTS = {
@@ -1,5 +1,6 @@
 package com.arenaaxis.gateway.filter;
 
+import com.arenaaxis.gateway.identity.InternalIdentitySigner;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
@@ -7,20 +8,25 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
+  private final InternalIdentitySigner internalIdentitySigner;
 
-  public AuthenticationFilter() {
+  public AuthenticationFilter(InternalIdentitySigner internalIdentitySigner) {
     super(Config.class);
+    this.internalIdentitySigner = internalIdentitySigner;
   }
 
   @Override
   public GatewayFilter apply(Config config) {
     return (exchange, chain) -> {
-      ServerHttpRequest request = exchange.getRequest();
+      ServerHttpRequest request = exchange.getRequest().mutate()
+        .headers(headers -> headers.remove(InternalIdentitySigner.HEADER))
+        .build();
 
       return ReactiveSecurityContextHolder.getContext()
         .map(SecurityContext::getAuthentication)
@@ -29,24 +35,28 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
           if (authentication.isAuthenticated() &&
             !(authentication instanceof AnonymousAuthentication)) {
 
-            ServerHttpRequest mutatedRequest = request.mutate()
+            ServerHttpRequest.Builder builder = request.mutate()
               .header("X-User-Email", authentication.getName())
               .header("X-User-Authorities",
                 String.join(",",
                   authentication.getAuthorities().stream()
                     .map(Object::toString)
-                    .toList()))
-              .build();
+                    .toList()));
+
+            if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+              internalIdentitySigner.sign(jwtAuthentication.getToken())
+                .ifPresent(identity -> builder.header(InternalIdentitySigner.HEADER, identity));
+            }
 
             log.debug("Forwarding authenticated request for user: {}",
               authentication.getName());
 
             return chain.filter(exchange.mutate()
-              .request(mutatedRequest)
+              .request(builder.build())
               .build());
           }
 
-          return chain.filter(exchange);
+          return chain.filter(exchange.mutate().request(request).build());
         });
     };
   }
@@ -0,0 +1,96 @@
+package com.arenaaxis.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class BulkheadFilter extends AbstractGatewayFilterFactory<BulkheadFilter.Config> {
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+  public BulkheadFilter(MeterRegistry meterRegistry) {
+    super(Config.class);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    Compartment compartment = compartment(config.getName());
+
+    return (exchange, chain) -> {
+      if (!compartment.tryAcquire(config.getMaxConcurrentCalls())) {
+        log.warn("Bulkhead {} is full, rejecting {}", config.getName(), exchange.getRequest().getPath());
+        exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        return exchange.getResponse().setComplete();
+      }
+
+      return chain.filter(exchange)
+        .doFinally(signal -> compartment.release());
+    };
+  }
+
+  public <T> Mono<T> run(String name, int maxConcurrentCalls, Mono<T> call) {
+    Compartment compartment = compartment(name);
+
+    return Mono.defer(() -> {
+      if (!compartment.tryAcquire(maxConcurrentCalls)) {
+        log.warn("Bulkhead {} is full, rejecting call", name);
+        return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Bulkhead " + name + " is full"));
+      }
+
+      return call.doFinally(signal -> compartment.release());
+    });
+  }
+
+  private Compartment compartment(String name) {
+    return compartments.computeIfAbsent(name, this::register);
+  }
+
+  private Compartment register(String name) {
+    AtomicInteger calls = new AtomicInteger();
+    Gauge.builder("gateway.bulkhead.in-flight", calls, AtomicInteger::get)
+      .tag("bulkhead", name)
+      .register(meterRegistry);
+    Counter rejections = Counter.builder("gateway.bulkhead.rejected")
+      .tag("bulkhead", name)
+      .register(meterRegistry);
+    return new Compartment(calls, rejections);
+  }
+
+  private record Compartment(AtomicInteger calls, Counter rejections) {
+    boolean tryAcquire(int maxConcurrentCalls) {
+      if (calls.incrementAndGet() > maxConcurrentCalls) {
+        calls.decrementAndGet();
+        rejections.increment();
+        return false;
+      }
+      return true;
+    }
+
+    void release() {
+      calls.decrementAndGet();
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class Config {
+    private String name = "default";
+    private int maxConcurrentCalls = 100;
+  }
+}
@@ -0,0 +1,180 @@
+package com.arenaaxis.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class CoalescingFilter extends AbstractGatewayFilterFactory<CoalescingFilter.Config> {
+  private static final List<String> UNSHARED_HEADERS = List.of(
+    HttpHeaders.CONTENT_LENGTH,
+    HttpHeaders.TRANSFER_ENCODING,
+    HttpHeaders.CONNECTION,
+    HttpHeaders.SET_COOKIE);
+
+  private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+  private final Counter leaders;
+  private final Counter followers;
+  private final Counter bypassed;
+
+  public CoalescingFilter(MeterRegistry meterRegistry) {
+    super(Config.class);
+    this.leaders = Counter.builder("gateway.coalescing.requests")
+      .tag("role", "leader")
+      .register(meterRegistry);
+    this.followers = Counter.builder("gateway.coalescing.requests")
+      .tag("role", "follower")
+      .register(meterRegistry);
+    this.bypassed = Counter.builder("gateway.coalescing.requests")
+      .tag("role", "bypass")
+      .register(meterRegistry);
+    Gauge.builder("gateway.coalescing.collapse.ratio", this, CoalescingFilter::collapseRatio)
+      .register(meterRegistry);
+    Gauge.builder("gateway.coalescing.in-flight", inFlight, Map::size)
+      .register(meterRegistry);
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    return (exchange, chain) -> {
+      ServerHttpRequest request = exchange.getRequest();
+      if (!isCoalescable(request)) {
+        return chain.filter(exchange);
+      }
+
+      String key = cacheKey(request, config.getVaryHeaders());
+      Flight flight = new Flight();
+      Flight existing = inFlight.putIfAbsent(key, flight);
+
+      if (existing == null) {
+        leaders.increment();
+        return lead(key, flight, exchange, chain);
+      }
+
+      if (existing.waiters.incrementAndGet() > config.getMaxWaiters()) {
+        existing.waiters.decrementAndGet();
+        bypassed.increment();
+        return chain.filter(exchange);
+      }
+
+      followers.increment();
+      return existing.result.asMono()
+        .map(Optional::of)
+        .defaultIfEmpty(Optional.empty())
+        .flatMap(shared -> shared.isPresent()
+          ? write(exchange, shared.get())
+          : chain.filter(exchange));
+    };
+  }
+
+  private Mono<Void> lead(String key, Flight flight, ServerWebExchange exchange, GatewayFilterChain chain) {
+    ServerHttpResponse response = exchange.getResponse();
+    ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(response) {
+      @Override
+      public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        return DataBufferUtils.join(Flux.from(body))
+          .flatMap(buffer -> {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.addAll(getHeaders());
+            flight.response = new SharedResponse(getStatusCode(), headers, bytes);
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+          })
+          .switchIfEmpty(Mono.defer(() -> super.writeWith(Flux.empty())));
+      }
+    };
+
+    return chain.filter(exchange.mutate().response(decorated).build())
+      .doFinally(signal -> {
+        inFlight.remove(key, flight);
+        if (flight.response != null) {
+          flight.result.tryEmitValue(flight.response);
+        } else {
+          flight.result.tryEmitEmpty();
+        }
+      });
+  }
+
+  private Mono<Void> write(ServerWebExchange exchange, SharedResponse shared) {
+    ServerHttpResponse response = exchange.getResponse();
+    response.setStatusCode(shared.status());
+    shared.headers().forEach((name, values) -> {
+      if (UNSHARED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)
+        && !name.regionMatches(true, 0, "Access-Control-", 0, 15)) {
+        response.getHeaders().put(name, values);
+      }
+    });
+    response.getHeaders().setContentLength(shared.body().length);
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+  }
+
+  private boolean isCoalescable(ServerHttpRequest request) {
+    HttpHeaders headers = request.getHeaders();
+    return request.getMethod() == HttpMethod.GET
+      && !headers.containsKey(HttpHeaders.AUTHORIZATION)
+      && !headers.containsKey(HttpHeaders.COOKIE);
+  }
+
+  private String cacheKey(ServerHttpRequest request, List<String> varyHeaders) {
+    StringBuilder key = new StringBuilder(request.getURI().getRawPath());
+    String query = request.getURI().getRawQuery();
+    if (query != null) {
+      key.append('?').append(query);
+    }
+    for (String header : varyHeaders) {
+      key.append('\n').append(header).append('=').append(request.getHeaders().getOrEmpty(header));
+    }
+    return key.toString();
+  }
+
+  private double collapseRatio() {
+    double total = leaders.count() + followers.count();
+    return total == 0 ? 0 : followers.count() / total;
+  }
+
+  private static class Flight {
+    final Sinks.One<SharedResponse> result = Sinks.one();
+    final AtomicInteger waiters = new AtomicInteger();
+    volatile SharedResponse response;
+  }
+
+  private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+  }
+
+  @Getter
+  @Setter
+  public static class Config {
+    private int maxWaiters = 256;
+    private List<String> varyHeaders = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_LANGUAGE);
+  }
+}
@@ -0,0 +1,65 @@
+package com.arenaaxis.gateway.filter;
+
+import com.arenaaxis.gateway.routing.MessageServicePool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class ConsistentHashRoutingFilter extends AbstractGatewayFilterFactory<ConsistentHashRoutingFilter.Config> {
+  private final MessageServicePool messageServicePool;
+
+  public ConsistentHashRoutingFilter(MessageServicePool messageServicePool) {
+    super(Config.class);
+    this.messageServicePool = messageServicePool;
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    return new OrderedGatewayFilter((exchange, chain) -> ReactiveSecurityContextHolder.getContext()
+      .map(SecurityContext::getAuthentication)
+      .filter(JwtAuthenticationToken.class::isInstance)
+      .map(authentication -> {
+        JwtAuthenticationToken jwtAuthentication = (JwtAuthenticationToken) authentication;
+        String userId = jwtAuthentication.getToken().getClaimAsString("uid");
+        return Optional.of(userId != null ? userId : jwtAuthentication.getName());
+      })
+      .defaultIfEmpty(Optional.empty())
+      .flatMap(user -> {
+        URI instance = user.map(messageServicePool::select).orElse(null);
+        if (instance == null) return chain.filter(exchange);
+
+        String userId = user.get();
+        URI requestUrl = exchange.getRequiredAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        URI routed = UriComponentsBuilder.fromUri(requestUrl)
+          .scheme(instance.getScheme())
+          .host(instance.getHost())
+          .port(instance.getPort())
+          .build(true)
+          .toUri();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR, routed);
+        log.debug("Routing WebSocket for user {} to {}", userId, instance);
+
+        messageServicePool.connected(instance);
+        return chain.filter(exchange)
+          .doFinally(signal -> messageServicePool.disconnected(instance));
+      }),
+      RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 1);
+  }
+
+  public static class Config {
+
+  }
+}
@@ -0,0 +1,287 @@
+package com.arenaaxis.gateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ConnectTimeoutException;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.springframework.cloud.gateway.support.RouteMetadataUtils.CONNECT_TIMEOUT_ATTR;
+import static org.springframework.cloud.gateway.support.RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR;
+
+@Slf4j
+@Component
+public class HedgeFilter extends AbstractGatewayFilterFactory<HedgeFilter.Config> {
+  private static final List<String> HOP_BY_HOP_HEADERS = List.of(
+    HttpHeaders.HOST,
+    HttpHeaders.CONNECTION,
+    HttpHeaders.CONTENT_LENGTH,
+    HttpHeaders.TRANSFER_ENCODING,
+    HttpHeaders.UPGRADE);
+  private static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+
+  private final WebClient.Builder webClientBuilder;
+  private final HttpClient httpClient;
+  private final HttpClientProperties httpClientProperties;
+  private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, RouteClient> routeClients = new ConcurrentHashMap<>();
+
+  // Hedged attempts bypass NettyRoutingFilter, so they reuse its HttpClient (pool, SSL, metrics),
+  // its HttpHeadersFilters and the route's connect/response timeouts explicitly.
+  public HedgeFilter(
+    WebClient.Builder webClientBuilder,
+    HttpClient httpClient,
+    HttpClientProperties httpClientProperties,
+    ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+    MeterRegistry meterRegistry
+  ) {
+    super(Config.class);
+    this.webClientBuilder = webClientBuilder.clone()
+      .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_BODY_BYTES));
+    this.httpClient = httpClient;
+    this.httpClientProperties = httpClientProperties;
+    this.headersFilters = headersFilters;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    Timer latency = Timer.builder("gateway.hedge.latency")
+      .tag("hedge", config.getName())
+      .publishPercentiles(0.95)
+      .register(meterRegistry);
+    Counter primaryWins = winCounter(config.getName(), "primary");
+    Counter hedgeWins = winCounter(config.getName(), "hedge");
+    Counter hedgesSent = Counter.builder("gateway.hedge.sent")
+      .tag("hedge", config.getName())
+      .register(meterRegistry);
+    Counter budgetExhausted = Counter.builder("gateway.hedge.skipped")
+      .tag("hedge", config.getName())
+      .tag("reason", "budget")
+      .register(meterRegistry);
+    HedgeBudget budget = new HedgeBudget(config.getBudgetRatio(), config.getBudgetBurst());
+
+    return (exchange, chain) -> {
+      Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+      if (exchange.getRequest().getMethod() != HttpMethod.GET || route == null) {
+        return chain.filter(exchange);
+      }
+
+      URI target = upstreamUri(route, exchange.getRequest());
+      Duration delay = hedgeDelay(latency, config);
+      RouteClient client = routeClients.computeIfAbsent(route.getId(), id -> routeClient(route));
+      HttpHeaders headers = requestHeaders(exchange);
+      budget.deposit();
+
+      // A primary that fails fast (not a timeout) cancels the pending hedge instead of retrying the upstream
+      Sinks.Empty<Void> primaryFailed = Sinks.empty();
+      Mono<Attempt> primary = send(client, target, headers, latency)
+        .doOnError(error -> {
+          if (!isTimeout(error)) primaryFailed.tryEmitEmpty();
+        })
+        .map(response -> new Attempt(response, false));
+      Mono<Attempt> hedge = Mono.delay(delay)
+        .takeUntilOther(primaryFailed.asMono())
+        .filter(ignored -> {
+          if (budget.tryWithdraw()) return true;
+          budgetExhausted.increment();
+          return false;
+        })
+        .doOnNext(ignored -> hedgesSent.increment())
+        .flatMap(ignored -> send(client, target, headers, latency))
+        .map(response -> new Attempt(response, true));
+
+      return Mono.firstWithValue(primary, hedge)
+        .onErrorMap(HedgeFilter::firstFailure)
+        .flatMap(attempt -> {
+          (attempt.hedged() ? hedgeWins : primaryWins).increment();
+          return write(exchange, attempt.response());
+        });
+    };
+  }
+
+  private Mono<ResponseEntity<byte[]>> send(RouteClient client, URI target, HttpHeaders headers, Timer latency) {
+    return Mono.defer(() -> {
+      long start = System.nanoTime();
+      Mono<ResponseEntity<byte[]>> response = client.webClient().get()
+        .uri(target)
+        .headers(outgoing -> outgoing.putAll(headers))
+        .exchangeToMono(upstream -> upstream.toEntity(byte[].class));
+      if (client.responseTimeout() != null) {
+        response = response.timeout(client.responseTimeout(), Mono.error(() -> new ResponseStatusException(
+          HttpStatus.GATEWAY_TIMEOUT, "Response took longer than timeout: " + client.responseTimeout())));
+      }
+      return response.doOnNext(ignored -> latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    });
+  }
+
+  private HttpHeaders requestHeaders(ServerWebExchange exchange) {
+    HttpHeaders headers = new HttpHeaders();
+    HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(List::of), exchange)
+      .forEach((name, values) -> {
+        if (HOP_BY_HOP_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+          headers.put(name, values);
+        }
+      });
+    if (exchange.getAttributeOrDefault(ServerWebExchangeUtils.PRESERVE_HOST_HEADER_ATTRIBUTE, false)) {
+      headers.set(HttpHeaders.HOST, exchange.getRequest().getHeaders().getFirst(HttpHeaders.HOST));
+    }
+    return headers;
+  }
+
+  private RouteClient routeClient(Route route) {
+    HttpClient client = httpClient;
+    Object connectTimeout = route.getMetadata().get(CONNECT_TIMEOUT_ATTR);
+    if (connectTimeout != null) {
+      client = client.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Integer.parseInt(connectTimeout.toString()));
+    }
+
+    Duration responseTimeout = httpClientProperties.getResponseTimeout();
+    Object routeResponseTimeout = route.getMetadata().get(RESPONSE_TIMEOUT_ATTR);
+    if (routeResponseTimeout != null) {
+      long millis = Long.parseLong(routeResponseTimeout.toString());
+      responseTimeout = millis < 0 ? null : Duration.ofMillis(millis);
+    }
+
+    WebClient webClient = webClientBuilder.clone()
+      .clientConnector(new ReactorClientHttpConnector(client))
+      .build();
+    return new RouteClient(webClient, responseTimeout);
+  }
+
+  private Mono<Void> write(ServerWebExchange exchange, ResponseEntity<byte[]> upstream) {
+    ServerHttpResponse response = exchange.getResponse();
+    HttpStatusCode status = upstream.getStatusCode();
+    response.setStatusCode(status);
+    HttpHeaders responseHeaders = HttpHeadersFilter.filter(
+      headersFilters.getIfAvailable(List::of), upstream.getHeaders(), exchange, HttpHeadersFilter.Type.RESPONSE);
+    responseHeaders.forEach((name, values) -> {
+      if (HOP_BY_HOP_HEADERS.stream().noneMatch(name::equalsIgnoreCase)
+        && !name.regionMatches(true, 0, "Access-Control-", 0, 15)) {
+        response.getHeaders().put(name, values);
+      }
+    });
+
+    byte[] body = upstream.getBody() == null ? new byte[0] : upstream.getBody();
+    response.getHeaders().setContentLength(body.length);
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+  }
+
+  private Duration hedgeDelay(Timer latency, Config config) {
+    for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+      double millis = percentile.value(TimeUnit.MILLISECONDS);
+      if (millis > 0) {
+        return Duration.ofMillis(Math.max(config.getMinDelayMillis(), (long) millis));
+      }
+    }
+    return Duration.ofMillis(config.getDelayMillis());
+  }
+
+  private URI upstreamUri(Route route, ServerHttpRequest request) {
+    return UriComponentsBuilder.fromUri(route.getUri())
+      .replacePath(request.getURI().getRawPath())
+      .replaceQuery(request.getURI().getRawQuery())
+      .build(true)
+      .toUri();
+  }
+
+  private Counter winCounter(String name, String winner) {
+    return Counter.builder("gateway.hedge.wins")
+      .tag("hedge", name)
+      .tag("winner", winner)
+      .register(meterRegistry);
+  }
+
+  private static boolean isTimeout(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof TimeoutException || cause instanceof ConnectTimeoutException) return true;
+      if (cause instanceof ResponseStatusException statusException
+        && statusException.getStatusCode() == HttpStatus.GATEWAY_TIMEOUT) return true;
+    }
+    return false;
+  }
+
+  private static Throwable firstFailure(Throwable error) {
+    if (error instanceof NoSuchElementException && error.getCause() != null) {
+      List<Throwable> failures = Exceptions.unwrapMultiple(error.getCause());
+      if (!failures.isEmpty()) return failures.get(0);
+    }
+    return error;
+  }
+
+  private record Attempt(ResponseEntity<byte[]> response, boolean hedged) {
+  }
+
+  private record RouteClient(WebClient webClient, Duration responseTimeout) {
+  }
+
+  // Token bucket: every request earns `ratio` of a hedge, capped at `burst`, so hedges stay near ratio of traffic
+  private static final class HedgeBudget {
+    private final double ratio;
+    private final double burst;
+    private double tokens;
+
+    HedgeBudget(double ratio, double burst) {
+      this.ratio = ratio;
+      this.burst = burst;
+    }
+
+    synchronized void deposit() {
+      tokens = Math.min(burst, tokens + ratio);
+    }
+
+    synchronized boolean tryWithdraw() {
+      if (tokens < 1) return false;
+      tokens -= 1;
+      return true;
+    }
+  }
+
+  @Getter
+  @Setter
+  public static class Config {
+    private String name = "default";
+    private long delayMillis = 300;
+    private long minDelayMillis = 50;
+    private double budgetRatio = 0.1;
+    private double budgetBurst = 10;
+  }
+}
@@ -0,0 +1,151 @@
+package com.arenaaxis.gateway.filter;
+
+import com.arenaaxis.gateway.ratelimit.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+  private static final String HEADER_LIMIT = "RateLimit-Limit";
+  private static final String HEADER_REMAINING = "RateLimit-Remaining";
+  private static final String HEADER_RESET = "RateLimit-Reset";
+
+  private static final String HEADER_FORWARDED_FOR = "X-Forwarded-For";
+
+  private final MeterRegistry meterRegistry;
+  private final List<IpAddressMatcher> trustedProxies;
+  private final long maxBuckets;
+
+  public RateLimitFilter(
+    MeterRegistry meterRegistry,
+    @Value("${gateway.rate-limit.trusted-proxies}") List<String> trustedProxies,
+    @Value("${gateway.rate-limit.max-buckets}") long maxBuckets
+  ) {
+    super(Config.class);
+    this.meterRegistry = meterRegistry;
+    this.trustedProxies = trustedProxies.stream()
+      .map(String::trim)
+      .filter(proxy -> !proxy.isEmpty())
+      .map(IpAddressMatcher::new)
+      .toList();
+    this.maxBuckets = maxBuckets;
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    long refillPeriodNanos = TimeUnit.SECONDS.toNanos(config.getRefillPeriodSeconds());
+    long refillsToFull = (config.getCapacity() + config.getRefillTokens() - 1) / config.getRefillTokens();
+    Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+      .maximumSize(maxBuckets)
+      .expireAfterAccess(Duration.ofNanos(refillPeriodNanos * refillsToFull))
+      .build();
+    Counter userRejections = rejectionCounter(config.getName(), "user");
+    Counter ipRejections = rejectionCounter(config.getName(), "ip");
+
+    return (exchange, chain) -> ReactiveSecurityContextHolder.getContext()
+      .map(SecurityContext::getAuthentication)
+      .filter(authentication -> authentication.isAuthenticated()
+        && !(authentication instanceof AnonymousAuthenticationToken))
+      .map(authentication -> "user:" + authentication.getName())
+      .defaultIfEmpty("ip:" + clientIp(exchange.getRequest()))
+      .flatMap(key -> {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, ignored -> new TokenBucket(
+          config.getCapacity(), config.getRefillTokens(), refillPeriodNanos, now));
+        TokenBucket.Probe probe = bucket.tryConsume(now);
+
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.set(HEADER_LIMIT, String.valueOf(config.getCapacity()));
+        headers.set(HEADER_REMAINING, String.valueOf(probe.remaining()));
+        headers.set(HEADER_RESET, String.valueOf(toSeconds(probe.nanosUntilFull())));
+
+        if (probe.allowed()) {
+          return chain.filter(exchange);
+        }
+
+        (key.startsWith("user:") ? userRejections : ipRejections).increment();
+        log.debug("Rate limit exceeded on {} for {}", config.getName(), key);
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(probe.nanosToWait())));
+        return response.setComplete();
+      });
+  }
+
+  private Counter rejectionCounter(String name, String principal) {
+    return Counter.builder("gateway.ratelimit.rejected")
+      .tag("limit", name)
+      .tag("principal", principal)
+      .register(meterRegistry);
+  }
+
+  private String clientIp(ServerHttpRequest request) {
+    InetSocketAddress remoteAddress = request.getRemoteAddress();
+    if (remoteAddress == null || remoteAddress.getAddress() == null) {
+      return "unknown";
+    }
+
+    String client = remoteAddress.getAddress().getHostAddress();
+    if (!isTrustedProxy(client)) {
+      return client;
+    }
+
+    List<String> forwardedFor = request.getHeaders().getValuesAsList(HEADER_FORWARDED_FOR);
+    for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+      String hop = forwardedFor.get(i).trim();
+      if (hop.isEmpty()) continue;
+      if (!isTrustedProxy(hop)) {
+        return hop;
+      }
+      client = hop;
+    }
+    return client;
+  }
+
+  private boolean isTrustedProxy(String address) {
+    for (IpAddressMatcher proxy : trustedProxies) {
+      try {
+        if (proxy.matches(address)) return true;
+      } catch (IllegalArgumentException e) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private long toSeconds(long nanos) {
+    return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+  }
+
+  @Getter
+  @Setter
+  public static class Config {
+    private String name = "default";
+    private long capacity = 20;
+    private long refillTokens = 20;
+    private long refillPeriodSeconds = 60;
+  }
+}
@@ -0,0 +1,147 @@
+package com.arenaaxis.gateway.filter;
+
+import com.arenaaxis.gateway.cache.ResponseCache;
+import com.arenaaxis.gateway.cache.ResponseCache.CachedResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Slf4j
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+  private final ResponseCache responseCache;
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter notModified;
+
+  public ResponseCacheFilter(ResponseCache responseCache, MeterRegistry meterRegistry) {
+    super(Config.class);
+    this.responseCache = responseCache;
+    this.hits = Counter.builder("gateway.response.cache.requests")
+      .tag("result", "hit")
+      .register(meterRegistry);
+    this.misses = Counter.builder("gateway.response.cache.requests")
+      .tag("result", "miss")
+      .register(meterRegistry);
+    this.notModified = Counter.builder("gateway.response.cache.not-modified")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public GatewayFilter apply(Config config) {
+    return (exchange, chain) -> {
+      ServerHttpRequest request = exchange.getRequest();
+      if (request.getMethod() != HttpMethod.GET) {
+        return chain.filter(exchange);
+      }
+
+      String key = cacheKey(request);
+      CachedResponse cached = responseCache.get(key);
+      if (cached != null) {
+        hits.increment();
+        return writeCached(exchange, cached);
+      }
+
+      misses.increment();
+      ServerHttpResponse response = exchange.getResponse();
+      ServerHttpResponseDecorator decorated = new ServerHttpResponseDecorator(response) {
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+          if (getStatusCode() != HttpStatus.OK || getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+            return super.writeWith(body);
+          }
+
+          return DataBufferUtils.join(Flux.from(body))
+            .flatMap(buffer -> {
+              byte[] bytes = new byte[buffer.readableByteCount()];
+              buffer.read(bytes);
+              DataBufferUtils.release(buffer);
+
+              CachedResponse entry = new CachedResponse(
+                bytes,
+                getHeaders().getContentType(),
+                etag(bytes),
+                Instant.now().plusSeconds(config.getTtlSeconds()));
+              responseCache.put(key, entry);
+
+              getHeaders().setETag(entry.getEtag());
+              getHeaders().setCacheControl("public, max-age=" + config.getTtlSeconds());
+              if (matches(request, entry.getEtag())) {
+                notModified.increment();
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                return getDelegate().setComplete();
+              }
+              return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            })
+            .switchIfEmpty(Mono.defer(() -> super.writeWith(Flux.empty())));
+        }
+      };
+
+      return chain.filter(exchange.mutate().response(decorated).build());
+    };
+  }
+
+  private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+    ServerHttpResponse response = exchange.getResponse();
+    long maxAge = Math.max(0, cached.getExpiresAt().getEpochSecond() - Instant.now().getEpochSecond());
+    response.getHeaders().setETag(cached.getEtag());
+    response.getHeaders().setCacheControl("public, max-age=" + maxAge);
+
+    if (matches(exchange.getRequest(), cached.getEtag())) {
+      notModified.increment();
+      response.setStatusCode(HttpStatus.NOT_MODIFIED);
+      return response.setComplete();
+    }
+
+    response.setStatusCode(HttpStatus.OK);
+    if (cached.getContentType() != null) {
+      response.getHeaders().setContentType(cached.getContentType());
+    }
+    response.getHeaders().setContentLength(cached.getBody().length);
+    return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+  }
+
+  private boolean matches(ServerHttpRequest request, String etag) {
+    return request.getHeaders().getIfNoneMatch().stream()
+      .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag)
+        || candidate.equals("W/" + etag));
+  }
+
+  private String cacheKey(ServerHttpRequest request) {
+    String query = request.getURI().getRawQuery();
+    return query == null
+      ? request.getURI().getRawPath()
+      : request.getURI().getRawPath() + "?" + query;
+  }
+
+  private String etag(byte[] body) {
+    return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+  }
+
+  @Getter
+  @Setter
+  public static class Config {
+    private long ttlSeconds = 300;
+  }
+}
@@ -0,0 +1,135 @@
+package com.arenaaxis.gateway.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class RouteMetricsFilter implements GlobalFilter, Ordered {
+  private static final String UNKNOWN = "unknown";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+  public RouteMetricsFilter(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+    Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+    String routeId = route == null ? UNKNOWN : route.getId();
+    String upstream = route == null ? UNKNOWN : route.getUri().getAuthority();
+    String method = exchange.getRequest().getMethod().name();
+
+    AtomicInteger routeInFlight = inFlight.computeIfAbsent(routeId, this::registerInFlight);
+    AtomicLong bytesIn = new AtomicLong();
+    AtomicLong bytesOut = new AtomicLong();
+    long start = System.nanoTime();
+    AtomicLong committedAt = new AtomicLong();
+
+    ServerHttpRequest request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+      @Override
+      public Flux<DataBuffer> getBody() {
+        return super.getBody().doOnNext(buffer -> bytesIn.addAndGet(buffer.readableByteCount()));
+      }
+    };
+    ServerHttpResponse response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+      @Override
+      public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        return super.writeWith(Flux.from(body).doOnNext(buffer -> bytesOut.addAndGet(buffer.readableByteCount())));
+      }
+
+      @Override
+      public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return super.writeAndFlushWith(Flux.from(body)
+          .map(part -> Flux.from(part).doOnNext(buffer -> bytesOut.addAndGet(buffer.readableByteCount()))));
+      }
+    };
+    response.beforeCommit(() -> {
+      committedAt.compareAndSet(0, System.nanoTime());
+      return Mono.empty();
+    });
+
+    routeInFlight.incrementAndGet();
+    return chain.filter(exchange.mutate().request(request).response(response).build())
+      .doFinally(signal -> {
+        routeInFlight.decrementAndGet();
+        long end = System.nanoTime();
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        String statusTag = signal == SignalType.CANCEL
+          ? "CLIENT_CLOSED"
+          : status == null ? UNKNOWN : String.valueOf(status.value());
+
+        Timer.builder("gateway.route.latency")
+          .tag("route", routeId)
+          .tag("upstream", upstream)
+          .tag("method", method)
+          .tag("status", statusTag)
+          .publishPercentileHistogram()
+          .register(meterRegistry)
+          .record(Duration.ofNanos(end - start));
+
+        // Time until the gateway commits its response, including cache hits, coalesced followers and
+        // rejections; upstream latency itself is reactor.netty.http.client.response.time
+        if (committedAt.get() != 0) {
+          Timer.builder("gateway.route.time-to-commit")
+            .tag("route", routeId)
+            .tag("upstream", upstream)
+            .tag("status", statusTag)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(Duration.ofNanos(committedAt.get() - start));
+        }
+
+        bytesSummary("gateway.route.bytes.in", routeId).record(bytesIn.get());
+        bytesSummary("gateway.route.bytes.out", routeId).record(bytesOut.get());
+      });
+  }
+
+  private AtomicInteger registerInFlight(String routeId) {
+    AtomicInteger counter = new AtomicInteger();
+    Gauge.builder("gateway.route.in-flight", counter, AtomicInteger::get)
+      .tag("route", routeId)
+      .register(meterRegistry);
+    return counter;
+  }
+
+  private DistributionSummary bytesSummary(String name, String routeId) {
+    return DistributionSummary.builder(name)
+      .baseUnit("bytes")
+      .tag("route", routeId)
+      .register(meterRegistry);
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+}
@@ -0,0 +1,103 @@
+package com.arenaaxis.gateway.identity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class InternalIdentitySigner {
+  public static final String HEADER = "X-Internal-Identity";
+  public static final String SERVICE_ROLE = "SERVICE";
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final int MIN_SECRET_BYTES = 32;
+  private static final long SERVICE_IDENTITY_TTL_MS = 10_000;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final boolean enabled;
+  private final ThreadLocal<Mac> mac;
+
+  public InternalIdentitySigner(
+    @Value("${internal-identity.enabled}") boolean enabled,
+    @Value("${internal-identity.secret}") String secret
+  ) {
+    this.enabled = enabled;
+    byte[] secretBytes = secret == null ? new byte[0] : secret.getBytes(StandardCharsets.UTF_8);
+    if (secretBytes.length < MIN_SECRET_BYTES) {
+      throw new IllegalStateException("internal-identity.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+    }
+    SecretKeySpec key = new SecretKeySpec(secretBytes, ALGORITHM);
+    this.mac = ThreadLocal.withInitial(() -> {
+      try {
+        Mac instance = Mac.getInstance(ALGORITHM);
+        instance.init(key);
+        return instance;
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  public Optional<String> sign(Jwt jwt) {
+    String userId = jwt.getClaimAsString("uid");
+    if (!enabled || userId == null || jwt.getExpiresAt() == null) {
+      return Optional.empty();
+    }
+
+    return encode(new InternalIdentity(
+      userId,
+      jwt.getSubject(),
+      jwt.getClaimAsString("scope"),
+      jwt.getId(),
+      jwt.getExpiresAt().toEpochMilli(),
+      System.currentTimeMillis()
+    ));
+  }
+
+  // Service identities authorize gateway-to-service calls and are issued even when
+  // per-user identity propagation is disabled.
+  public Optional<String> signService(String service) {
+    long now = System.currentTimeMillis();
+    return encode(new InternalIdentity(service, null, SERVICE_ROLE, null, now + SERVICE_IDENTITY_TTL_MS, now));
+  }
+
+  private Optional<String> encode(InternalIdentity identity) {
+    try {
+      Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+      byte[] payload = objectMapper.writeValueAsBytes(identity);
+      byte[] signature = mac.get().doFinal(payload);
+      return Optional.of(encoder.encodeToString(payload) + "." + encoder.encodeToString(signature));
+    } catch (JsonProcessingException e) {
+      log.error("Cannot sign internal identity: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @FieldDefaults(level = AccessLevel.PRIVATE)
+  private static class InternalIdentity {
+    String uid;
+    String email;
+    String role;
+    String jti;
+    long exp;
+    long iat;
+  }
+}
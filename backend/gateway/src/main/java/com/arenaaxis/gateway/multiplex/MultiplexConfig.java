@@ -0,0 +1,21 @@
+package com.arenaaxis.gateway.multiplex;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "message-service.multiplex.enabled", havingValue = "true")
+public class MultiplexConfig {
+
+  @Bean
+  public HandlerMapping multiplexedWebSocketMapping(MultiplexedWebSocketHandler handler) {
+    return new SimpleUrlHandlerMapping(
+      Map.of("/ws/messages", handler, "/ws/messages/**", handler), Ordered.HIGHEST_PRECEDENCE);
+  }
+}
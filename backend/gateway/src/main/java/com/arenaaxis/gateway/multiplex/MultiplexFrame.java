@@ -0,0 +1,24 @@
+package com.arenaaxis.gateway.multiplex;
+
+import java.util.Optional;
+
+record MultiplexFrame(char op, String sessionId, String payload) {
+  static final char OPEN = 'O';
+  static final char DATA = 'D';
+  static final char CLOSE = 'C';
+
+  static Optional<MultiplexFrame> parse(String text) {
+    if (text == null || text.length() < 3 || text.charAt(1) != ':') return Optional.empty();
+
+    int newline = text.indexOf('\n');
+    String sessionId = newline < 0 ? text.substring(2) : text.substring(2, newline);
+    if (sessionId.isEmpty()) return Optional.empty();
+
+    String payload = newline < 0 ? "" : text.substring(newline + 1);
+    return Optional.of(new MultiplexFrame(text.charAt(0), sessionId, payload));
+  }
+
+  static String encode(char op, String sessionId, String payload) {
+    return op + ":" + sessionId + "\n" + payload;
+  }
+}
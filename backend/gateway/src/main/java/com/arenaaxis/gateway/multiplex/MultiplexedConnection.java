@@ -0,0 +1,137 @@
+package com.arenaaxis.gateway.multiplex;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+class MultiplexedConnection {
+  private final URI uri;
+  private final WebSocketClient webSocketClient;
+  private final int clientBuffer;
+  private final Map<String, Attachment> clients = new ConcurrentHashMap<>();
+  private volatile MultiplexOutbound upstream = new MultiplexOutbound();
+  private volatile boolean connected;
+  private Disposable subscription;
+
+  MultiplexedConnection(URI uri, WebSocketClient webSocketClient, int clientBuffer) {
+    this.uri = uri;
+    this.webSocketClient = webSocketClient;
+    this.clientBuffer = clientBuffer;
+  }
+
+  void start() {
+    subscription = Mono.defer(this::connect)
+      .repeatWhen(completed -> completed.delayElements(Duration.ofSeconds(1)))
+      .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+        .maxBackoff(Duration.ofSeconds(30))
+        .transientErrors(true)
+        .doBeforeRetry(signal -> log.warn("Multiplexed connection to {} lost: {}",
+          uri, signal.failure().getMessage())))
+      .subscribe();
+  }
+
+  void stop() {
+    if (subscription != null) subscription.dispose();
+  }
+
+  boolean isConnected() {
+    return connected;
+  }
+
+  int attached() {
+    return clients.size();
+  }
+
+  Mono<Void> attach(WebSocketSession client) {
+    String sessionId = client.getId();
+    Sinks.Many<String> toClient = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(clientBuffer));
+    Attachment attachment = new Attachment(client, toClient);
+    clients.put(sessionId, attachment);
+
+    Sinks.Empty<Void> received = Sinks.empty();
+    Flux<String> frames = client.receive()
+      .map(message -> MultiplexFrame.encode(MultiplexFrame.DATA, sessionId, message.getPayloadAsText()))
+      .startWith(MultiplexFrame.encode(MultiplexFrame.OPEN, sessionId, ""))
+      .doFinally(signal -> received.tryEmitEmpty());
+    if (!upstream.add(frames)) {
+      clients.remove(sessionId, attachment);
+      return client.close(CloseStatus.SERVICE_RESTARTED);
+    }
+
+    Mono<Void> input = received.asMono()
+      .or(client.closeStatus().then())
+      .doFinally(signal -> toClient.tryEmitComplete());
+    Mono<Void> output = client.send(toClient.asFlux().map(client::textMessage));
+
+    return Mono.when(input, output)
+      .doFinally(signal -> {
+        if (clients.remove(sessionId, attachment)) {
+          upstream.add(Mono.just(MultiplexFrame.encode(MultiplexFrame.CLOSE, sessionId, "")));
+        }
+      });
+  }
+
+  private Mono<Void> connect() {
+    MultiplexOutbound outbound = upstream;
+    return webSocketClient.execute(uri, session -> {
+        connected = true;
+        log.info("Multiplexed connection to {} established", uri);
+
+        Mono<Void> input = session.receive()
+          .map(WebSocketMessage::getPayloadAsText)
+          .doOnNext(text -> MultiplexFrame.parse(text).ifPresentOrElse(
+            this::dispatch,
+            () -> log.warn("Dropping malformed multiplex frame from {}", uri)))
+          .then();
+        Mono<Void> output = session.send(outbound.frames().map(session::textMessage));
+        return Mono.firstWithSignal(input, output);
+      })
+      .doFinally(signal -> {
+        connected = false;
+        upstream = new MultiplexOutbound();
+        outbound.complete();
+        clients.values().forEach(attachment -> attachment.client().close().subscribe());
+        clients.clear();
+      });
+  }
+
+  private void dispatch(MultiplexFrame frame) {
+    Attachment attachment = clients.get(frame.sessionId());
+    if (attachment == null) return;
+
+    switch (frame.op()) {
+      case MultiplexFrame.DATA -> {
+        if (attachment.toClient().tryEmitNext(frame.payload()) == Sinks.EmitResult.FAIL_OVERFLOW) {
+          log.warn("Closing slow multiplexed client {}: buffer exceeded {} frames", frame.sessionId(), clientBuffer);
+          if (clients.remove(frame.sessionId(), attachment)) {
+            upstream.add(Mono.just(MultiplexFrame.encode(MultiplexFrame.CLOSE, frame.sessionId(), "")));
+          }
+          attachment.client().close(CloseStatus.POLICY_VIOLATION).subscribe();
+        }
+      }
+      case MultiplexFrame.CLOSE -> {
+        clients.remove(frame.sessionId());
+        attachment.toClient().tryEmitComplete();
+        attachment.client().close().subscribe();
+      }
+      default -> log.warn("Unexpected multiplex frame {} from {}", frame.op(), uri);
+    }
+  }
+
+  private record Attachment(WebSocketSession client, Sinks.Many<String> toClient) {
+  }
+}
@@ -0,0 +1,78 @@
+package com.arenaaxis.gateway.multiplex;
+
+import com.arenaaxis.gateway.routing.MessageServicePool;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "message-service.multiplex.enabled", havingValue = "true")
+public class MultiplexedConnectionPool {
+  private final MessageServicePool messageServicePool;
+  private final WebSocketClient webSocketClient;
+  private final int connectionsPerInstance;
+  private final String path;
+  private final int clientBuffer;
+  private final Map<URI, List<MultiplexedConnection>> connections = new ConcurrentHashMap<>();
+
+  public MultiplexedConnectionPool(
+    MessageServicePool messageServicePool,
+    WebSocketClient webSocketClient,
+    MeterRegistry meterRegistry,
+    @Value("${message-service.multiplex.connections-per-instance}") int connectionsPerInstance,
+    @Value("${message-service.multiplex.path}") String path,
+    @Value("${message-service.multiplex.client-buffer}") int clientBuffer
+  ) {
+    this.messageServicePool = messageServicePool;
+    this.webSocketClient = webSocketClient;
+    this.connectionsPerInstance = connectionsPerInstance;
+    this.path = path;
+    this.clientBuffer = clientBuffer;
+    Gauge.builder("gateway.ws.mux.upstreams", connections,
+        pool -> all(pool.values()).stream().filter(MultiplexedConnection::isConnected).count())
+      .register(meterRegistry);
+    Gauge.builder("gateway.ws.mux.sessions", connections,
+        pool -> all(pool.values()).stream().mapToInt(MultiplexedConnection::attached).sum())
+      .register(meterRegistry);
+  }
+
+  URI instanceFor(String userId) {
+    return messageServicePool.select(userId);
+  }
+
+  MultiplexedConnection connection(URI instance, String sessionId) {
+    List<MultiplexedConnection> pool = connections.computeIfAbsent(instance, this::open);
+    return pool.get(Math.floorMod(sessionId.hashCode(), pool.size()));
+  }
+
+  @PreDestroy
+  public void stop() {
+    all(connections.values()).forEach(MultiplexedConnection::stop);
+  }
+
+  private List<MultiplexedConnection> open(URI instance) {
+    URI uri = instance.resolve(path);
+    List<MultiplexedConnection> pool = new ArrayList<>(connectionsPerInstance);
+    for (int i = 0; i < connectionsPerInstance; i++) {
+      MultiplexedConnection connection = new MultiplexedConnection(uri, webSocketClient, clientBuffer);
+      connection.start();
+      pool.add(connection);
+    }
+    return List.copyOf(pool);
+  }
+
+  private static List<MultiplexedConnection> all(Collection<List<MultiplexedConnection>> pools) {
+    return pools.stream().flatMap(List::stream).toList();
+  }
+}
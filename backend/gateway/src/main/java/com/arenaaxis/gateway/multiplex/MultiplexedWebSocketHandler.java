@@ -0,0 +1,80 @@
+package com.arenaaxis.gateway.multiplex;
+
+import com.arenaaxis.gateway.config.CustomReactiveJwtDecoder;
+import com.arenaaxis.gateway.routing.MessageServicePool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "message-service.multiplex.enabled", havingValue = "true")
+public class MultiplexedWebSocketHandler implements WebSocketHandler {
+  // Mux frames are text-only, so the binary chat.cbor / chat.smile formats are not offered in mux mode
+  private static final List<String> SUB_PROTOCOLS = List.of("chat.json");
+
+  private final CustomReactiveJwtDecoder jwtDecoder;
+  private final MultiplexedConnectionPool connectionPool;
+  private final MessageServicePool messageServicePool;
+
+  public MultiplexedWebSocketHandler(
+    CustomReactiveJwtDecoder jwtDecoder,
+    MultiplexedConnectionPool connectionPool,
+    MessageServicePool messageServicePool
+  ) {
+    this.jwtDecoder = jwtDecoder;
+    this.connectionPool = connectionPool;
+    this.messageServicePool = messageServicePool;
+  }
+
+  @Override
+  public List<String> getSubProtocols() {
+    return SUB_PROTOCOLS;
+  }
+
+  @Override
+  public Mono<Void> handle(WebSocketSession client) {
+    String token = token(client.getHandshakeInfo());
+    if (token == null) {
+      log.warn("WebSocket connection attempt without token");
+      return client.close(CloseStatus.POLICY_VIOLATION);
+    }
+
+    return jwtDecoder.decode(token)
+      .flatMap(jwt -> {
+        String userId = jwt.getClaimAsString("uid") != null ? jwt.getClaimAsString("uid") : jwt.getSubject();
+        URI instance = connectionPool.instanceFor(userId);
+        if (instance == null) {
+          return client.close(CloseStatus.SERVICE_RESTARTED);
+        }
+
+        messageServicePool.connected(instance);
+        return connectionPool.connection(instance, client.getId())
+          .attach(client)
+          .doFinally(signal -> messageServicePool.disconnected(instance));
+      })
+      .onErrorResume(e -> {
+        log.error("WebSocket authentication failed: {}", e.getMessage());
+        return client.close(CloseStatus.POLICY_VIOLATION);
+      });
+  }
+
+  private String token(HandshakeInfo handshakeInfo) {
+    String token = UriComponentsBuilder.fromUri(handshakeInfo.getUri()).build()
+      .getQueryParams().getFirst("token");
+    if (token != null && !token.isEmpty()) return token;
+
+    String authHeader = handshakeInfo.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+    return authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+  }
+}
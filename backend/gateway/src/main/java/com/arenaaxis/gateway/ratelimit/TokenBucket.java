@@ -0,0 +1,54 @@
+package com.arenaaxis.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TokenBucket {
+  private final long capacity;
+  private final double tokensPerNano;
+  private final AtomicReference<State> state;
+
+  public TokenBucket(long capacity, long refillTokens, long refillPeriodNanos, long now) {
+    this.capacity = capacity;
+    this.tokensPerNano = (double) refillTokens / refillPeriodNanos;
+    this.state = new AtomicReference<>(new State(capacity, now));
+  }
+
+  public Probe tryConsume(long now) {
+    while (true) {
+      State current = state.get();
+      double available = refill(current, now);
+
+      if (available < 1) {
+        State refreshed = new State(available, Math.max(now, current.timestamp()));
+        if (state.compareAndSet(current, refreshed)) {
+          return new Probe(false, 0, nanosUntil(1 - available), nanosUntil(capacity - available));
+        }
+        continue;
+      }
+
+      double remaining = available - 1;
+      if (state.compareAndSet(current, new State(remaining, Math.max(now, current.timestamp())))) {
+        return new Probe(true, (long) remaining, 0, nanosUntil(capacity - remaining));
+      }
+    }
+  }
+
+  public long getCapacity() {
+    return capacity;
+  }
+
+  private double refill(State current, long now) {
+    long elapsed = Math.max(0, now - current.timestamp());
+    return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+  }
+
+  private long nanosUntil(double tokens) {
+    return (long) Math.ceil(tokens / tokensPerNano);
+  }
+
+  private record State(double tokens, long timestamp) {
+  }
+
+  public record Probe(boolean allowed, long remaining, long nanosToWait, long nanosUntilFull) {
+  }
+}
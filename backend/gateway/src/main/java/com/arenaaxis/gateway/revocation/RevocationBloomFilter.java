@@ -0,0 +1,57 @@
+package com.arenaaxis.gateway.revocation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class RevocationBloomFilter {
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final AtomicLongArray bits;
+  private final int numBits;
+  private final int numHashes;
+
+  RevocationBloomFilter(int expectedInsertions, double falsePositiveRate) {
+    int n = Math.max(expectedInsertions, 1);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.numBits = (int) Math.min(Math.max(m, 64), Integer.MAX_VALUE - 63);
+    this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+    this.bits = new AtomicLongArray((numBits + 63) >>> 6);
+  }
+
+  void put(String key) {
+    long hash = hash(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= numHashes; i++) {
+      int index = ((h1 + i * h2) & Integer.MAX_VALUE) % numBits;
+      int word = index >>> 6;
+      long mask = 1L << index;
+      long current;
+      do {
+        current = bits.get(word);
+        if ((current & mask) != 0) break;
+      } while (!bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  boolean mightContain(String key) {
+    long hash = hash(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= numHashes; i++) {
+      int index = ((h1 + i * h2) & Integer.MAX_VALUE) % numBits;
+      if ((bits.get(index >>> 6) & (1L << index)) == 0) return false;
+    }
+    return true;
+  }
+
+  private static long hash(String key) {
+    long hash = FNV_OFFSET;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,141 @@
+package com.arenaaxis.gateway.revocation;
+
+import com.arenaaxis.gateway.identity.InternalIdentitySigner;
+import jakarta.annotation.PreDestroy;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class RevocationFeedClient {
+  private static final String SERVICE_NAME = "gateway";
+  private static final ParameterizedTypeReference<ServerSentEvent<RevokedToken>> EVENT_TYPE =
+    new ParameterizedTypeReference<>() {};
+
+  @Value("${user-service.url}")
+  private String userServiceUrl;
+
+  @Value("${user-service.revocation-endpoint}")
+  private String revocationEndpoint;
+
+  private final WebClient webClient;
+  private final TokenRevocationCache revocationCache;
+  private final InternalIdentitySigner internalIdentitySigner;
+  private final AtomicLong cursor = new AtomicLong();
+  private Disposable subscription;
+
+  public RevocationFeedClient(
+    WebClient.Builder webClientBuilder,
+    TokenRevocationCache revocationCache,
+    InternalIdentitySigner internalIdentitySigner
+  ) {
+    this.webClient = webClientBuilder.build();
+    this.revocationCache = revocationCache;
+    this.internalIdentitySigner = internalIdentitySigner;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    subscription = loadSnapshot()
+      .thenMany(Flux.defer(this::stream).repeat())
+      .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+        .maxBackoff(Duration.ofSeconds(30))
+        .transientErrors(true)
+        .doBeforeRetry(signal -> log.warn("Revocation feed disconnected: {}",
+          signal.failure().getMessage())))
+      .subscribe();
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (subscription != null) subscription.dispose();
+  }
+
+  private Mono<Void> loadSnapshot() {
+    return Mono.defer(() -> {
+      if (cursor.get() > 0) return Mono.empty();
+
+      return webClient.get()
+        .uri(userServiceUrl + revocationEndpoint)
+        .headers(this::authenticate)
+        .retrieve()
+        .bodyToMono(RevocationSnapshot.class)
+        .doOnNext(snapshot -> {
+          Map<String, Instant> tokens = new HashMap<>();
+          snapshot.getTokens().forEach(token ->
+            tokens.put(token.getJti(), Instant.ofEpochMilli(token.getExpiresAt())));
+          revocationCache.replaceAll(tokens);
+          cursor.set(snapshot.getCursor());
+          revocationCache.markSynced();
+          log.info("Loaded {} revoked tokens from snapshot", tokens.size());
+        })
+        .then();
+    });
+  }
+
+  private Flux<ServerSentEvent<RevokedToken>> stream() {
+    return webClient.get()
+      .uri(userServiceUrl + revocationEndpoint + "/stream?cursor={cursor}", cursor.get())
+      .headers(this::authenticate)
+      .retrieve()
+      .bodyToFlux(EVENT_TYPE)
+      .doOnNext(this::onEvent);
+  }
+
+  private void authenticate(HttpHeaders headers) {
+    internalIdentitySigner.signService(SERVICE_NAME)
+      .ifPresent(identity -> headers.set(InternalIdentitySigner.HEADER, identity));
+  }
+
+  private void onEvent(ServerSentEvent<RevokedToken> event) {
+    RevokedToken token = event.data();
+    if (token == null) return;
+
+    if (token.getJti() != null) {
+      revocationCache.revoke(token.getJti(), Instant.ofEpochMilli(token.getExpiresAt()));
+    }
+    cursor.accumulateAndGet(token.getCursor(), Math::max);
+    revocationCache.markSynced();
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @FieldDefaults(level = AccessLevel.PRIVATE)
+  private static class RevokedToken {
+    String jti;
+    long expiresAt;
+    long cursor;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @FieldDefaults(level = AccessLevel.PRIVATE)
+  private static class RevocationSnapshot {
+    long cursor;
+    List<RevokedToken> tokens = List.of();
+  }
+}
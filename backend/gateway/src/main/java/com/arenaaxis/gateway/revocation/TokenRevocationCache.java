@@ -0,0 +1,116 @@
+package com.arenaaxis.gateway.revocation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+public class TokenRevocationCache {
+  private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+  private final AtomicReference<Instant> lastSyncedAt = new AtomicReference<>(Instant.EPOCH);
+  private final Duration staleAfter;
+  private final int bloomExpectedInsertions;
+  // Readers see the map and its Bloom filter as one unit; rebuilds publish a new pair in a single write.
+  private volatile RevocationSet revocations;
+
+  private final Counter hits;
+  private final Counter misses;
+
+  public TokenRevocationCache(
+    MeterRegistry meterRegistry,
+    @Value("${jwt.revocation.stale-after-seconds:30}") long staleAfterSeconds,
+    @Value("${jwt.revocation.bloom-expected-insertions:100000}") int bloomExpectedInsertions
+  ) {
+    this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+    this.bloomExpectedInsertions = bloomExpectedInsertions;
+    this.revocations = build(Map.of(), Instant.now());
+    this.hits = Counter.builder("gateway.jwt.revocation.lookups")
+      .tag("result", "hit")
+      .description("Lookups that found the jti in the revocation set")
+      .register(meterRegistry);
+    this.misses = Counter.builder("gateway.jwt.revocation.lookups")
+      .tag("result", "miss")
+      .description("Lookups that did not find the jti in the revocation set")
+      .register(meterRegistry);
+    Gauge.builder("gateway.jwt.revocation.size", this, cache -> cache.revocations.tokens().size())
+      .register(meterRegistry);
+    Gauge.builder("gateway.jwt.revocation.staleness.seconds", this,
+        cache -> Duration.between(cache.lastSyncedAt.get(), Instant.now()).toSeconds())
+      .register(meterRegistry);
+  }
+
+  public synchronized void revoke(String jti, Instant expiresAt) {
+    if (jti == null || expiresAt == null || expiresAt.isBefore(Instant.now())) return;
+    RevocationSet current = revocations;
+    current.bloomFilter().put(jti);
+    current.tokens().put(jti, expiresAt);
+  }
+
+  public synchronized void replaceAll(Map<String, Instant> snapshot) {
+    revocations = build(snapshot, Instant.now());
+  }
+
+  public boolean isRevoked(String jti) {
+    if (jti == null) return false;
+
+    RevocationSet current = revocations;
+    if (!current.bloomFilter().mightContain(jti)) {
+      misses.increment();
+      return false;
+    }
+
+    Instant expiresAt = current.tokens().get(jti);
+    if (expiresAt == null || expiresAt.isBefore(Instant.now())) {
+      misses.increment();
+      return false;
+    }
+
+    hits.increment();
+    return true;
+  }
+
+  public void markSynced() {
+    lastSyncedAt.set(Instant.now());
+  }
+
+  public boolean isStale() {
+    return lastSyncedAt.get().plus(staleAfter).isBefore(Instant.now());
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.revocation.evict-interval-ms:60000}")
+  public synchronized void evictExpired() {
+    RevocationSet current = revocations;
+    RevocationSet pruned = build(current.tokens(), Instant.now());
+    int evicted = current.tokens().size() - pruned.tokens().size();
+    if (evicted > 0) {
+      revocations = pruned;
+    }
+    log.debug("Evicted {} expired revoked tokens", evicted);
+  }
+
+  private RevocationSet build(Map<String, Instant> source, Instant now) {
+    Map<String, Instant> tokens = new ConcurrentHashMap<>();
+    source.forEach((jti, expiresAt) -> {
+      if (expiresAt.isAfter(now)) tokens.put(jti, expiresAt);
+    });
+    RevocationBloomFilter bloomFilter = new RevocationBloomFilter(
+      Math.max(bloomExpectedInsertions, tokens.size() * 2), BLOOM_FALSE_POSITIVE_RATE);
+    tokens.keySet().forEach(bloomFilter::put);
+    return new RevocationSet(tokens, bloomFilter);
+  }
+
+  private record RevocationSet(Map<String, Instant> tokens, RevocationBloomFilter bloomFilter) {
+  }
+}
@@ -0,0 +1,48 @@
+package com.arenaaxis.gateway.routing;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+class ConsistentHashRing {
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final TreeMap<Long, URI> ring = new TreeMap<>();
+  private final List<URI> instances;
+
+  ConsistentHashRing(Collection<URI> instances, int virtualNodes) {
+    this.instances = List.copyOf(instances);
+    for (URI instance : this.instances) {
+      for (int i = 0; i < virtualNodes; i++) {
+        ring.put(hash(instance + "#" + i), instance);
+      }
+    }
+  }
+
+  URI select(String key) {
+    if (ring.isEmpty()) return null;
+
+    Map.Entry<Long, URI> entry = ring.ceilingEntry(hash(key));
+    return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+  }
+
+  List<URI> instances() {
+    return instances;
+  }
+
+  private static long hash(String key) {
+    long hash = FNV_OFFSET;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= FNV_PRIME;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,83 @@
+package com.arenaaxis.gateway.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class MessageServicePool {
+  private static final String INSTANCES_PROPERTY = "message-service.ws-instances";
+
+  private final Environment environment;
+  private final MeterRegistry meterRegistry;
+  private final int virtualNodes;
+  private final Map<URI, AtomicInteger> connections = new ConcurrentHashMap<>();
+  private volatile ConsistentHashRing ring;
+
+  public MessageServicePool(
+    Environment environment,
+    MeterRegistry meterRegistry,
+    @Value("${message-service.virtual-nodes}") int virtualNodes
+  ) {
+    this.environment = environment;
+    this.meterRegistry = meterRegistry;
+    this.virtualNodes = virtualNodes;
+    reload();
+  }
+
+  @EventListener
+  public void onEnvironmentChange(EnvironmentChangeEvent event) {
+    if (event.getKeys().stream().anyMatch(key -> key.startsWith(INSTANCES_PROPERTY))) {
+      reload();
+    }
+  }
+
+  public URI select(String userId) {
+    return ring.select(userId);
+  }
+
+  public void connected(URI instance) {
+    connections.computeIfAbsent(instance, this::register).incrementAndGet();
+  }
+
+  public void disconnected(URI instance) {
+    connections.computeIfAbsent(instance, this::register).decrementAndGet();
+  }
+
+  private void reload() {
+    List<URI> instances = Binder.get(environment)
+      .bind(INSTANCES_PROPERTY, Bindable.listOf(String.class))
+      .orElse(List.of())
+      .stream()
+      .map(String::trim)
+      .filter(instance -> !instance.isEmpty())
+      .map(URI::create)
+      .toList();
+
+    instances.forEach(instance -> connections.computeIfAbsent(instance, this::register));
+    ring = new ConsistentHashRing(instances, virtualNodes);
+    log.info("Message service WebSocket pool: {}", instances);
+  }
+
+  private AtomicInteger register(URI instance) {
+    AtomicInteger count = new AtomicInteger();
+    Gauge.builder("gateway.ws.connections", count, AtomicInteger::get)
+      .tag("instance", instance.getAuthority())
+      .register(meterRegistry);
+    return count;
+  }
+}
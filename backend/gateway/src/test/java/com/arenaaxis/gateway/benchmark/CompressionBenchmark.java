@@ -0,0 +1,136 @@
+package com.arenaaxis.gateway.benchmark;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// mvn test -Dtest=CompressionBenchmark -Dbenchmark=true [-Dbenchmark.seconds=2]
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CompressionBenchmark {
+  private static final Random RANDOM = new Random(42);
+
+  @Test
+  void cpuCostAgainstBytesSaved() throws Exception {
+    Brotli4jLoader.ensureAvailability();
+    long seconds = Long.getLong("benchmark.seconds", 2);
+
+    Map<String, byte[]> payloads = new LinkedHashMap<>();
+    payloads.put("store-search(20)", storeSearchPage(20));
+    payloads.put("post-search(50)", postSearchPage(50));
+    payloads.put("wards(10000)", wards(10_000));
+
+    Map<String, Codec> codecs = new LinkedHashMap<>();
+    codecs.put("gzip-1", body -> gzip(body, Deflater.BEST_SPEED));
+    codecs.put("gzip-6", body -> gzip(body, Deflater.DEFAULT_COMPRESSION));
+    codecs.put("br-4", body -> Encoder.compress(body, new Encoder.Parameters().setQuality(4)));
+    codecs.put("br-11", body -> Encoder.compress(body, new Encoder.Parameters().setQuality(11)));
+
+    System.out.printf("%-18s %-8s %-10s %-10s %-8s %-12s %-14s%n",
+      "payload", "codec", "bytes", "out", "ratio", "us/op", "MB saved/cpu-s");
+    for (Map.Entry<String, byte[]> payload : payloads.entrySet()) {
+      byte[] body = payload.getValue();
+      for (Map.Entry<String, Codec> codec : codecs.entrySet()) {
+        int compressed = codec.getValue().compress(body).length;
+        measure(codec.getValue(), body, 1);
+
+        long started = System.nanoTime();
+        long ops = measure(codec.getValue(), body, seconds);
+        double nanosPerOp = (double) (System.nanoTime() - started) / ops;
+        double savedPerCpuSecond = (body.length - compressed) / (nanosPerOp / 1e9) / (1024 * 1024);
+
+        System.out.printf("%-18s %-8s %-10d %-10d %-8.2f %-12.1f %-14.1f%n",
+          payload.getKey(), codec.getKey(), body.length, compressed,
+          (double) body.length / compressed, nanosPerOp / 1000, savedPerCpuSecond);
+        assertTrue(compressed < body.length);
+      }
+    }
+  }
+
+  private long measure(Codec codec, byte[] body, long seconds) throws IOException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    long ops = 0;
+    while (System.nanoTime() < deadline) {
+      codec.compress(body);
+      ops++;
+    }
+    return ops;
+  }
+
+  private static byte[] gzip(byte[] body, int level) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out) {{ def.setLevel(level); }}) {
+      gzip.write(body);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] storeSearchPage(int size) {
+    StringBuilder json = new StringBuilder("{\"stores\":[");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) json.append(',');
+      json.append("{\"id\":\"").append(uuid())
+        .append("\",\"name\":\"Sân bóng đá mini ").append(i)
+        .append("\",\"address\":\"").append(100 + i).append(" Nguyễn Văn Linh, Phường Tân Phong\"")
+        .append(",\"avatarUrl\":\"https://res.cloudinary.com/arenaaxis/image/upload/v1/stores/").append(uuid())
+        .append(".jpg\",\"averageRating\":").append(3 + RANDOM.nextInt(20) / 10.0)
+        .append(",\"orderCounts\":").append(RANDOM.nextInt(5000))
+        .append(",\"startTime\":\"06:00\",\"endTime\":\"22:00\",\"wardName\":\"Phường Tân Phong\"")
+        .append(",\"provinceName\":\"Thành phố Hồ Chí Minh\",\"distance\":").append(RANDOM.nextInt(20000) / 1000.0)
+        .append('}');
+    }
+    return json.append("],\"page\":1,\"perPage\":").append(size).append(",\"totalPages\":12}")
+      .toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] postSearchPage(int size) {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) json.append(',');
+      json.append("{\"id\":\"").append(Long.toHexString(RANDOM.nextLong()))
+        .append("\",\"title\":\"Tìm đồng đội đá bóng tối thứ ").append(2 + i % 6)
+        .append("\",\"description\":\"Cần thêm ").append(1 + i % 4)
+        .append(" người, trình độ trung bình, chia tiền sân sau trận.\"")
+        .append(",\"sport\":{\"id\":\"football\",\"name\":\"Bóng đá\"}")
+        .append(",\"creator\":{\"id\":\"").append(uuid()).append("\",\"name\":\"Người dùng ").append(i)
+        .append("\"},\"requiredNumber\":").append(1 + i % 4)
+        .append(",\"timestamp\":\"19:30:00 12/10/2025\"}");
+    }
+    return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] wards(int size) {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) json.append(',');
+      json.append("{\"id\":\"").append(String.format("%05d", i))
+        .append("\",\"name\":\"Phường ").append(i)
+        .append("\",\"provinceId\":\"").append(String.format("%02d", i % 63)).append("\"}");
+    }
+    return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String uuid() {
+    return new UUID(RANDOM.nextLong(), RANDOM.nextLong()).toString();
+  }
+
+  @FunctionalInterface
+  private interface Codec {
+    byte[] compress(byte[] body) throws IOException;
+  }
+}
@@ -0,0 +1,242 @@
+package com.arenaaxis.gateway.benchmark;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// mvn test -Dtest=GatewayLoadBenchmark -Dbenchmark=true [-Dbenchmark.seconds=30] [-Dbenchmark.concurrency=64]
+//   [-Dbenchmark.stub.latency.ms=5] [-Dbenchmark.mix="GET /provinces:4,GET /users/myself@auth:2,WS /ws/messages@auth:1"]
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+  "logging.level.org.springframework.cloud.gateway=WARN",
+  "logging.level.org.springframework.security=WARN",
+  "logging.level.com.arenaaxis.gateway=WARN",
+  "gateway.rate-limit.trusted-proxies=127.0.0.1,::1",
+  "internal-identity.secret=benchmark-internal-identity-secret"
+})
+class GatewayLoadBenchmark {
+  private static final String DEFAULT_MIX = "GET /provinces:4,GET /stores/detail/store-1:3,POST /stores/search:1,"
+    + "GET /api/v1/fields:2,GET /users/myself@auth:2,GET /messages@auth:1,WS /ws/messages@auth:1";
+  private static final long STUB_LATENCY_MS = Long.getLong("benchmark.stub.latency.ms", 5);
+  private static final String STUB_BODY = "{\"code\":1000,\"data\":[" + "{\"id\":\"x\",\"name\":\"stub\"},".repeat(20)
+    + "{\"id\":\"y\",\"name\":\"stub\"}]}";
+
+  private static final DisposableServer USER_SERVICE = stub();
+  private static final DisposableServer MESSAGE_SERVICE = stub();
+  private static final DisposableServer ORDER_SERVICE = stub();
+
+  @LocalServerPort
+  int port;
+
+  @Value("${jwt.signer-key}")
+  String signerKey;
+
+  @DynamicPropertySource
+  static void upstreams(DynamicPropertyRegistry registry) {
+    registry.add("USER_SERVICE_URL", () -> "http://localhost:" + USER_SERVICE.port());
+    registry.add("MESSAGE_SERVICE_URL", () -> "http://localhost:" + MESSAGE_SERVICE.port());
+    registry.add("MESSAGE_SERVICE_WS_URL", () -> "ws://localhost:" + MESSAGE_SERVICE.port());
+    registry.add("ORDER_SERVICE_URL", () -> "http://localhost:" + ORDER_SERVICE.port() + "/api/v1");
+  }
+
+  @AfterAll
+  static void stopStubs() {
+    USER_SERVICE.disposeNow();
+    MESSAGE_SERVICE.disposeNow();
+    ORDER_SERVICE.disposeNow();
+  }
+
+  @Test
+  void throughputLatencyAndAllocation() throws Exception {
+    long seconds = Long.getLong("benchmark.seconds", 30);
+    int concurrency = Integer.getInteger("benchmark.concurrency", 64);
+    List<Call> mix = parseMix(System.getProperty("benchmark.mix", DEFAULT_MIX));
+    String token = token();
+
+    ConnectionProvider connections = ConnectionProvider.builder("benchmark")
+      .maxConnections(concurrency)
+      .pendingAcquireMaxCount(-1)
+      .build();
+    HttpClient client = HttpClient.create(connections).baseUrl("http://localhost:" + port);
+
+    run(client, mix, token, concurrency, Duration.ofSeconds(Math.min(5, seconds)), new Recorder(3), new AtomicLong());
+
+    Recorder recorder = new Recorder(3);
+    AtomicLong errors = new AtomicLong();
+    long allocatedBefore = allocatedBytes();
+    long cpuBefore = cpuNanos();
+    long started = System.nanoTime();
+    long completed = run(client, mix, token, concurrency, Duration.ofSeconds(seconds), recorder, errors);
+    double elapsed = (System.nanoTime() - started) / 1e9;
+    long allocated = allocatedBytes() - allocatedBefore;
+    double cpu = (cpuNanos() - cpuBefore) / 1e9;
+    connections.disposeLater().block();
+
+    Histogram histogram = recorder.getIntervalHistogram();
+    System.out.printf("requests=%d errors=%d elapsed=%.1fs throughput=%.1f req/s%n",
+      completed, errors.get(), elapsed, completed / elapsed);
+    System.out.printf("latency ms p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+      histogram.getValueAtPercentile(50) / 1e3, histogram.getValueAtPercentile(90) / 1e3,
+      histogram.getValueAtPercentile(99) / 1e3, histogram.getValueAtPercentile(99.9) / 1e3,
+      histogram.getMaxValue() / 1e3);
+    System.out.printf("allocation=%.1f MB/s (%.1f KB/req) cpu=%.2f core-s (%.1f us/req), stub latency=%dms%n",
+      allocated / elapsed / (1024 * 1024), (double) allocated / completed / 1024,
+      cpu, cpu * 1e6 / completed, STUB_LATENCY_MS);
+    assertTrue(completed > 0);
+  }
+
+  private long run(HttpClient client, List<Call> mix, String token, int concurrency, Duration duration,
+                   Recorder recorder, AtomicLong errors) {
+    long deadline = System.nanoTime() + duration.toNanos();
+    int totalWeight = mix.stream().mapToInt(Call::weight).sum();
+
+    return Flux.range(0, concurrency)
+      .flatMap(worker -> Flux.defer(() -> {
+          long start = System.nanoTime();
+          return execute(client, pick(mix, totalWeight), token)
+            .doOnNext(status -> {
+              recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+              if (status >= 400) errors.incrementAndGet();
+            })
+            .onErrorResume(error -> {
+              errors.incrementAndGet();
+              return Mono.just(599);
+            });
+        })
+        .repeat(() -> System.nanoTime() < deadline), concurrency)
+      .count()
+      .block();
+  }
+
+  private Mono<Integer> execute(HttpClient client, Call call, String token) {
+    HttpClient configured = client.headers(headers -> {
+      headers.set("X-Forwarded-For", "10.0." + ThreadLocalRandom.current().nextInt(256)
+        + "." + ThreadLocalRandom.current().nextInt(256));
+      if (call.authenticated()) headers.set("Authorization", "Bearer " + token);
+    });
+
+    return switch (call.method()) {
+      case "WS" -> configured.websocket()
+        .uri(call.path() + "?token=" + token)
+        .handle((inbound, outbound) -> outbound.sendString(Mono.just("{\"type\":\"PING\"}"))
+          .then()
+          .thenMany(inbound.receive().take(1)))
+        .then(Mono.just(101));
+      case "POST" -> configured.headers(headers -> headers.set("Content-Type", "application/json"))
+        .post()
+        .uri(call.path())
+        .send((request, outbound) -> outbound.sendString(Mono.just("{\"name\":\"san\",\"page\":1}")))
+        .responseSingle((response, body) -> body.then(Mono.just(response.status().code())));
+      default -> configured.get()
+        .uri(call.path())
+        .responseSingle((response, body) -> body.then(Mono.just(response.status().code())));
+    };
+  }
+
+  private Call pick(List<Call> mix, int totalWeight) {
+    int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+    for (Call call : mix) {
+      roll -= call.weight();
+      if (roll < 0) return call;
+    }
+    return mix.get(mix.size() - 1);
+  }
+
+  private List<Call> parseMix(String spec) {
+    List<Call> calls = new ArrayList<>();
+    for (String entry : spec.split(",")) {
+      String[] weighted = entry.trim().split(":");
+      String[] request = weighted[0].trim().split(" ");
+      boolean authenticated = request[1].endsWith("@auth");
+      String path = authenticated ? request[1].substring(0, request[1].length() - 5) : request[1];
+      calls.add(new Call(request[0], path, authenticated, Integer.parseInt(weighted[1].trim())));
+    }
+    return calls;
+  }
+
+  private String token() throws JOSEException {
+    JWTClaimsSet claims = new JWTClaimsSet.Builder()
+      .subject("benchmark@arenaaxis.com")
+      .claim("scope", "CLIENT")
+      .claim("uid", "benchmark-user")
+      .jwtID(UUID.randomUUID().toString())
+      .issueTime(new Date())
+      .expirationTime(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+      .build();
+    SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS512), claims);
+    jwt.sign(new MACSigner(signerKey.getBytes()));
+    return jwt.serialize();
+  }
+
+  private static DisposableServer stub() {
+    return HttpServer.create()
+      .port(0)
+      .route(routes -> routes
+        .get("/internal/revocations", (request, response) -> response
+          .header("Content-Type", "application/json")
+          .sendString(Mono.just("{\"cursor\":1,\"tokens\":[]}")))
+        .get("/internal/revocations/stream", (request, response) -> response
+          .header("Content-Type", "text/event-stream")
+          .sendString(Flux.interval(Duration.ZERO, Duration.ofSeconds(1))
+            .map(tick -> "event:heartbeat\ndata:{\"cursor\":1}\n\n")))
+        .ws("/ws/messages", (inbound, outbound) -> outbound.sendString(inbound.receive().asString()))
+        .route(request -> true, (request, response) -> request.receive().then()
+          .then(Mono.delay(Duration.ofMillis(STUB_LATENCY_MS)))
+          .then(response.header("Content-Type", "application/json")
+            .sendByteArray(Mono.just(STUB_BODY.getBytes(StandardCharsets.UTF_8)))
+            .then())))
+      .bindNow();
+  }
+
+  private static long allocatedBytes() {
+    com.sun.management.ThreadMXBean threads =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long total = 0;
+    for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+      if (allocated > 0) total += allocated;
+    }
+    return total;
+  }
+
+  private static long cpuNanos() {
+    return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+      .getProcessCpuTime();
+  }
+
+  private record Call(String method, String path, boolean authenticated, int weight) {
+  }
+}
@@ -0,0 +1,57 @@
+package com.arenaaxis.messageservice.cache;
+
+import com.arenaaxis.messageservice.model.Conversation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class ConversationCache {
+  private final Cache<String, Boolean> knownParticipants;
+  private final Cache<String, String> conversationIds;
+
+  public ConversationCache(
+    MeterRegistry meterRegistry,
+    @Value("${message.send-cache.max-size}") long maxSize,
+    @Value("${message.send-cache.ttl}") Duration ttl
+  ) {
+    this.knownParticipants = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(ttl)
+      .recordStats()
+      .build();
+    this.conversationIds = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(ttl)
+      .recordStats()
+      .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, knownParticipants, "message.participants.known");
+    CaffeineCacheMetrics.monitor(meterRegistry, conversationIds, "message.conversations.pair");
+  }
+
+  public boolean isKnownParticipant(String userId) {
+    return knownParticipants.getIfPresent(userId) != null;
+  }
+
+  public void participantKnown(String userId) {
+    knownParticipants.put(userId, Boolean.TRUE);
+  }
+
+  public String conversationId(String user1, String user2) {
+    return conversationIds.getIfPresent(Conversation.pairKey(user1, user2));
+  }
+
+  public void conversationResolved(String user1, String user2, String conversationId) {
+    conversationIds.put(Conversation.pairKey(user1, user2), conversationId);
+  }
+
+  public void evictConversation(String user1, String user2) {
+    conversationIds.invalidate(Conversation.pairKey(user1, user2));
+  }
+}
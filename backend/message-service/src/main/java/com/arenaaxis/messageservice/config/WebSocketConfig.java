@@ -1,6 +1,7 @@
 package com.arenaaxis.messageservice.config;
 
 import com.arenaaxis.messageservice.websocket.MessageWebsocketHandler;
+import com.arenaaxis.messageservice.websocket.mux.MultiplexedWebsocketHandler;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -22,11 +23,13 @@ import java.util.Map;
 public class WebSocketConfig {
 
   private final MessageWebsocketHandler messageWebsocketHandler;
+  private final MultiplexedWebsocketHandler multiplexedWebsocketHandler;
 
   @Bean
   public HandlerMapping webSocketMapping() {
     Map<String, WebSocketHandler> map = new HashMap<>();
     map.put("/ws/messages", messageWebsocketHandler);
+    map.put("/ws/mux", multiplexedWebsocketHandler);
 
     return new SimpleUrlHandlerMapping(map, 10);
   }
@@ -23,11 +23,12 @@ public class MessageController {
 
   @GetMapping
   public Mono<ResponseEntity<List<Message>>> getMessages(
-    @RequestParam(required = false) String conversationId,
-    @RequestParam(required = false, defaultValue = "0") int page,
+    @RequestParam String conversationId,
+    @RequestParam(required = false) String before,
+    @RequestParam(required = false) String after,
     @RequestParam(required = false, defaultValue = "12") int perPage
   ) {
-    return messageService.getMessagesByConversation(conversationId, page, perPage)
+    return messageService.getMessagesByConversation(conversationId, before, after, perPage)
       .collectList()
       .map(ResponseEntity::ok);
   }
@@ -13,6 +13,7 @@ public enum ErrorCode {
   MESSAGE_NOT_FOUND(1005, "Message not found", HttpStatus.BAD_REQUEST),
   FORBIDDEN(1006, "Forbidden", HttpStatus.FORBIDDEN),
   INVALID_APPLY_POST(1007, "Invalid apply post", HttpStatus.BAD_REQUEST),
+  INVALID_MESSAGE_CURSOR(1008, "Invalid message cursor", HttpStatus.BAD_REQUEST),
   ;
 
   private final int code;
@@ -0,0 +1,90 @@
+package com.arenaaxis.messageservice.migration;
+
+import com.arenaaxis.messageservice.model.Conversation;
+import com.arenaaxis.messageservice.model.Message;
+import com.arenaaxis.messageservice.repository.ConversationRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ConversationPairKeyMigration {
+  ReactiveMongoTemplate mongoTemplate;
+  ConversationRepository conversationRepository;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrate() {
+    Query legacy = Query.query(Criteria.where("pairKey").exists(false).and("participantIds").size(2))
+      .with(Sort.by("createdAt"));
+
+    mongoTemplate.indexOps(Conversation.class)
+      .createIndex(new Index().on("pairKey", Sort.Direction.ASC).unique().sparse().named("pairKey"))
+      .thenMany(mongoTemplate.find(legacy, Conversation.class))
+      .concatMap(this::backfill)
+      .count()
+      .subscribe(
+        migrated -> log.info("Conversation pair keys ready, {} legacy conversations migrated", migrated),
+        error -> log.error("Conversation pair key migration failed", error)
+      );
+  }
+
+  private Mono<Conversation> backfill(Conversation conversation) {
+    String pairKey = Conversation.pairKey(
+      conversation.getParticipantIds().get(0),
+      conversation.getParticipantIds().get(1)
+    );
+
+    return mongoTemplate.updateFirst(
+        Query.query(Criteria.where("_id").is(conversation.getId()).and("pairKey").exists(false)),
+        Update.update("pairKey", pairKey),
+        Conversation.class)
+      .thenReturn(conversation)
+      .onErrorResume(DuplicateKeyException.class, duplicate -> conversationRepository.findByPairKey(pairKey)
+        .flatMap(winner -> merge(conversation, winner)));
+  }
+
+  private Mono<Conversation> merge(Conversation duplicate, Conversation kept) {
+    log.info("Merging duplicate conversation {} into {}", duplicate.getId(), kept.getId());
+
+    Mono<?> moveMessages = mongoTemplate.updateMulti(
+      Query.query(Criteria.where("conversationId").is(duplicate.getId())),
+      Update.update("conversationId", kept.getId()),
+      Message.class);
+
+    boolean duplicateIsNewer = duplicate.getLastMessage() != null
+      && duplicate.getLastMessageAt() != null
+      && (kept.getLastMessage() == null
+        || kept.getLastMessageAt() == null
+        || duplicate.getLastMessageAt().isAfter(kept.getLastMessageAt()));
+
+    Mono<?> keepLatest = Mono.empty();
+    if (duplicateIsNewer) {
+      Message lastMessage = duplicate.getLastMessage();
+      lastMessage.setConversationId(kept.getId());
+      keepLatest = mongoTemplate.updateFirst(
+        Query.query(Criteria.where("_id").is(kept.getId())),
+        new Update().set("lastMessage", lastMessage).set("lastMessageAt", duplicate.getLastMessageAt()),
+        Conversation.class);
+    }
+
+    return moveMessages
+      .then(keepLatest)
+      .then(mongoTemplate.remove(duplicate))
+      .thenReturn(kept);
+  }
+}
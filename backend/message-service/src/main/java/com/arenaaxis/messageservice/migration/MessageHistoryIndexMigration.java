@@ -0,0 +1,37 @@
+package com.arenaaxis.messageservice.migration;
+
+import com.arenaaxis.messageservice.model.Message;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class MessageHistoryIndexMigration {
+  ReactiveMongoTemplate mongoTemplate;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrate() {
+    Index index = new Index()
+      .on("conversationId", Sort.Direction.ASC)
+      .on("timestamp", Sort.Direction.DESC)
+      .on("_id", Sort.Direction.DESC)
+      .named("conversation_timestamp_id");
+
+    mongoTemplate.indexOps(Message.class)
+      .createIndex(index)
+      .subscribe(
+        name -> log.info("Message history index {} ready", name),
+        error -> log.error("Message history index creation failed", error)
+      );
+  }
+}
@@ -3,6 +3,7 @@ package com.arenaaxis.messageservice.model;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -23,9 +24,16 @@ public class Conversation {
 
   List<String> participantIds;
 
+  @Indexed(unique = true, sparse = true)
+  String pairKey;
+
   Message lastMessage;
   LocalDateTime lastMessageAt;
 
   @Builder.Default
   LocalDateTime createdAt = LocalDateTime.now();
+
+  public static String pairKey(String user1, String user2) {
+    return user1.compareTo(user2) <= 0 ? user1 + ":" + user2 : user2 + ":" + user1;
+  }
 }
@@ -3,6 +3,7 @@ package com.arenaaxis.messageservice.model;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "messages")
+@CompoundIndex(name = "conversation_timestamp_id", def = "{'conversationId': 1, 'timestamp': -1, '_id': -1}")
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class Message {
   @Id
@@ -3,20 +3,12 @@ package com.arenaaxis.messageservice.repository;
 import com.arenaaxis.messageservice.model.Conversation;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.Aggregation;
-import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ConversationRepository extends ReactiveMongoRepository<Conversation, String> {
-  @Query("{ participantIds: { $all: [?0, ?1] } }")
-  Flux<Conversation> findCandidates(String user1, String user2);
-
-  default Mono<Conversation> findOneToOne(String user1, String user2) {
-    return findCandidates(user1, user2)
-      .filter(c -> c.getParticipantIds().size() == 2)
-      .next();
-  }
+  Mono<Conversation> findByPairKey(String pairKey);
 
   Flux<Conversation> findByParticipantIdsContains(String userId, Pageable pageable);
 
@@ -0,0 +1,38 @@
+package com.arenaaxis.messageservice.repository.custom;
+
+import com.arenaaxis.messageservice.model.Conversation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ConversationRepositoryCustomImpl {
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+  public Mono<Conversation> findOrCreateOneToOne(String user1, String user2) {
+    LocalDateTime now = LocalDateTime.now();
+    Query query = Query.query(Criteria.where("pairKey").is(Conversation.pairKey(user1, user2)));
+    Update update = new Update()
+      .setOnInsert("_id", UUID.randomUUID().toString())
+      .setOnInsert("participantIds", List.of(user1, user2))
+      .setOnInsert("lastMessageAt", now)
+      .setOnInsert("createdAt", now);
+
+    return reactiveMongoTemplate
+      .findAndModify(query, update, FindAndModifyOptions.options().upsert(true).returnNew(true), Conversation.class)
+      .retryWhen(Retry.max(1).filter(DuplicateKeyException.class::isInstance));
+  }
+}
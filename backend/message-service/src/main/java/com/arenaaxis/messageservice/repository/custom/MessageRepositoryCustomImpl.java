@@ -0,0 +1,60 @@
+package com.arenaaxis.messageservice.repository.custom;
+
+import com.arenaaxis.messageservice.model.Message;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collections;
+
+@Repository
+@RequiredArgsConstructor
+public class MessageRepositoryCustomImpl {
+
+  private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+  public Flux<Message> findLatest(String conversationId, int limit) {
+    Query query = Query.query(Criteria.where("conversationId").is(conversationId))
+      .with(newestFirst())
+      .limit(limit);
+
+    return reactiveMongoTemplate.find(query, Message.class);
+  }
+
+  public Flux<Message> findBefore(Message cursor, int limit) {
+    Query query = Query.query(Criteria.where("conversationId").is(cursor.getConversationId())
+        .orOperator(
+          Criteria.where("timestamp").lt(cursor.getTimestamp()),
+          Criteria.where("timestamp").is(cursor.getTimestamp()).and("_id").lt(cursor.getId())
+        ))
+      .with(newestFirst())
+      .limit(limit);
+
+    return reactiveMongoTemplate.find(query, Message.class);
+  }
+
+  public Flux<Message> findAfter(Message cursor, int limit) {
+    Query query = Query.query(Criteria.where("conversationId").is(cursor.getConversationId())
+        .orOperator(
+          Criteria.where("timestamp").gt(cursor.getTimestamp()),
+          Criteria.where("timestamp").is(cursor.getTimestamp()).and("_id").gt(cursor.getId())
+        ))
+      .with(Sort.by(Sort.Direction.ASC, "timestamp", "_id"))
+      .limit(limit);
+
+    return reactiveMongoTemplate.find(query, Message.class)
+      .collectList()
+      .flatMapIterable(messages -> {
+        Collections.reverse(messages);
+        return messages;
+      });
+  }
+
+  private static Sort newestFirst() {
+    return Sort.by(Sort.Direction.DESC, "timestamp", "_id");
+  }
+}
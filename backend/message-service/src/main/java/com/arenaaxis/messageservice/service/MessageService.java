@@ -7,5 +7,5 @@ import reactor.core.publisher.Mono;
 public interface MessageService {
   Mono<Message> createMessage(String receiverId, Message message);
   Mono<Message> seenMessage(String messageId, String readerId);
-  Flux<Message> getMessagesByConversation(String conversationId, int page, int perPage);
+  Flux<Message> getMessagesByConversation(String conversationId, String before, String after, int limit);
 }
@@ -1,49 +1,91 @@
 package com.arenaaxis.messageservice.service.impl;
 
+import com.arenaaxis.messageservice.cache.ConversationCache;
 import com.arenaaxis.messageservice.exception.AppException;
 import com.arenaaxis.messageservice.exception.ErrorCode;
 import com.arenaaxis.messageservice.model.Conversation;
 import com.arenaaxis.messageservice.model.Message;
 import com.arenaaxis.messageservice.repository.ConversationRepository;
 import com.arenaaxis.messageservice.repository.MessageRepository;
+import com.arenaaxis.messageservice.repository.custom.ConversationRepositoryCustomImpl;
+import com.arenaaxis.messageservice.repository.custom.MessageRepositoryCustomImpl;
 import com.arenaaxis.messageservice.service.MessageService;
 import com.arenaaxis.messageservice.service.ParticipantService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class MessageServiceImpl implements MessageService {
   ParticipantService participantService;
+  ConversationCache conversationCache;
 
   ConversationRepository conversationRepository;
+  ConversationRepositoryCustomImpl conversationRepositoryCustom;
   MessageRepository messageRepository;
+  MessageRepositoryCustomImpl messageRepositoryCustom;
+  ReactiveMongoTemplate mongoTemplate;
+  Timer participantsTimer;
+  Timer conversationTimer;
+  Timer insertTimer;
+  Timer conversationUpdateTimer;
+
+  @NonFinal
+  @Value("${message.history.max-page-size}")
+  int maxPageSize;
+
+  public MessageServiceImpl(
+    ParticipantService participantService,
+    ConversationCache conversationCache,
+    ConversationRepository conversationRepository,
+    ConversationRepositoryCustomImpl conversationRepositoryCustom,
+    MessageRepository messageRepository,
+    MessageRepositoryCustomImpl messageRepositoryCustom,
+    ReactiveMongoTemplate mongoTemplate,
+    MeterRegistry meterRegistry
+  ) {
+    this.participantService = participantService;
+    this.conversationCache = conversationCache;
+    this.conversationRepository = conversationRepository;
+    this.conversationRepositoryCustom = conversationRepositoryCustom;
+    this.messageRepository = messageRepository;
+    this.messageRepositoryCustom = messageRepositoryCustom;
+    this.mongoTemplate = mongoTemplate;
+    this.participantsTimer = stageTimer(meterRegistry, "participants");
+    this.conversationTimer = stageTimer(meterRegistry, "conversation");
+    this.insertTimer = stageTimer(meterRegistry, "insert");
+    this.conversationUpdateTimer = stageTimer(meterRegistry, "conversation-update");
+  }
 
   @Override
   public Mono<Message> createMessage(String receiverId, Message message) {
-    return participantService.createFromUserId(receiverId)
-      .onErrorResume(ex -> Mono.error(new AppException(ErrorCode.USER_NOT_FOUND)))
-      .then(participantService.createFromUserId(message.getSenderId())
-        .onErrorResume(ex -> Mono.error(new AppException(ErrorCode.USER_NOT_FOUND))))
-      .then(conversationRepository
-        .findOneToOne(message.getSenderId(), receiverId)
-        .switchIfEmpty(createNewConversation(message.getSenderId(), receiverId))
-        .flatMap(conv -> {
-          message.setConversationId(conv.getId());
-          return updateConversation(conv, message)
-            .then(messageRepository.save(message));
-        })
-      );
+    String senderId = message.getSenderId();
+
+    return timed(participantsTimer, Mono.when(ensureParticipant(receiverId), ensureParticipant(senderId)))
+      .then(timed(conversationTimer, resolveConversationId(senderId, receiverId)))
+      .flatMap(conversationId -> {
+        message.setConversationId(conversationId);
+        return timed(insertTimer, messageRepository.insert(message));
+      })
+      .flatMap(saved -> timed(conversationUpdateTimer, touchConversation(saved))
+        .flatMap(updated -> updated
+          ? Mono.just(saved)
+          : reassignConversation(saved, senderId, receiverId)));
   }
 
   @Override
@@ -78,26 +120,93 @@ public class MessageServiceImpl implements MessageService {
       });
   }
 
-  private Mono<Conversation> createNewConversation(String senderId, String receiverId) {
-    Conversation conversation = Conversation.builder()
-      .participantIds(List.of(senderId, receiverId))
-      .lastMessage(null)
-      .lastMessageAt(LocalDateTime.now())
-      .build();
+  private Mono<Void> ensureParticipant(String userId) {
+    if (conversationCache.isKnownParticipant(userId)) {
+      return Mono.empty();
+    }
 
-    return conversationRepository.save(conversation);
+    return participantService.createFromUserId(userId)
+      .onErrorResume(ex -> Mono.error(new AppException(ErrorCode.USER_NOT_FOUND)))
+      .doOnNext(participant -> conversationCache.participantKnown(userId))
+      .then();
   }
 
-  private Mono<Conversation> updateConversation(Conversation conv, Message msg) {
-    conv.setLastMessage(msg);
-    conv.setLastMessageAt(msg.getTimestamp());
-    return conversationRepository.save(conv);
+  private Mono<String> resolveConversationId(String senderId, String receiverId) {
+    String cached = conversationCache.conversationId(senderId, receiverId);
+    if (cached != null) {
+      return Mono.just(cached);
+    }
+
+    return conversationRepositoryCustom
+      .findOrCreateOneToOne(senderId, receiverId)
+      .map(Conversation::getId)
+      .doOnNext(id -> conversationCache.conversationResolved(senderId, receiverId, id));
+  }
+
+  private Mono<Message> reassignConversation(Message message, String senderId, String receiverId) {
+    log.warn("Cached conversation {} no longer exists, resolving again", message.getConversationId());
+    conversationCache.evictConversation(senderId, receiverId);
+
+    return resolveConversationId(senderId, receiverId)
+      .flatMap(conversationId -> {
+        message.setConversationId(conversationId);
+        return messageRepository.save(message);
+      })
+      .flatMap(saved -> touchConversation(saved).thenReturn(saved));
+  }
+
+  // Only moves lastMessage forward, so concurrent sends cannot leave an older message as the latest one.
+  // A miss means either a newer message is already there or the conversation is gone.
+  private Mono<Boolean> touchConversation(Message msg) {
+    Query query = Query.query(Criteria.where("_id").is(msg.getConversationId())
+      .orOperator(
+        Criteria.where("lastMessageAt").is(null),
+        Criteria.where("lastMessageAt").lt(msg.getTimestamp())));
+    Update update = new Update()
+      .set("lastMessage", msg)
+      .set("lastMessageAt", msg.getTimestamp());
+
+    return mongoTemplate.updateFirst(query, update, Conversation.class)
+      .flatMap(result -> result.getMatchedCount() > 0
+        ? Mono.just(true)
+        : mongoTemplate.exists(Query.query(Criteria.where("_id").is(msg.getConversationId())), Conversation.class));
+  }
+
+  private <T> Mono<T> timed(Timer timer, Mono<T> mono) {
+    return Mono.defer(() -> {
+      long start = System.nanoTime();
+      return mono.doFinally(signal -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    });
+  }
+
+  private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+    return Timer.builder("message.send.stage")
+      .tag("stage", stage)
+      .publishPercentileHistogram()
+      .register(meterRegistry);
   }
 
   @Override
-  public Flux<Message> getMessagesByConversation(String conversationId, int page, int perPage) {
-    return messageRepository.findByConversationIdOrderByTimestampAsc(conversationId)
-      .skip((long) page * perPage)
-      .take(perPage);
+  public Flux<Message> getMessagesByConversation(String conversationId, String before, String after, int limit) {
+    if (before != null && after != null) {
+      return Flux.error(new AppException(ErrorCode.INVALID_MESSAGE_CURSOR));
+    }
+
+    int size = Math.max(1, Math.min(limit, maxPageSize));
+    if (before != null) {
+      return findCursor(conversationId, before)
+        .flatMapMany(cursor -> messageRepositoryCustom.findBefore(cursor, size));
+    }
+    if (after != null) {
+      return findCursor(conversationId, after)
+        .flatMapMany(cursor -> messageRepositoryCustom.findAfter(cursor, size));
+    }
+    return messageRepositoryCustom.findLatest(conversationId, size);
+  }
+
+  private Mono<Message> findCursor(String conversationId, String messageId) {
+    return messageRepository.findById(messageId)
+      .filter(message -> message.getConversationId().equals(conversationId))
+      .switchIfEmpty(Mono.error(new AppException(ErrorCode.INVALID_MESSAGE_CURSOR)));
   }
 }
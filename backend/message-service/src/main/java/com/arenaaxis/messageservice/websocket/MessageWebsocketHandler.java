@@ -1,65 +1,117 @@
 package com.arenaaxis.messageservice.websocket;
 
+import com.arenaaxis.messageservice.websocket.codec.WireCodecs;
+import com.arenaaxis.messageservice.websocket.codec.WireFormat;
+import com.arenaaxis.messageservice.websocket.frame.SocketFrame;
+import com.arenaaxis.messageservice.websocket.frame.SocketFrameReader;
 import com.arenaaxis.messageservice.websocket.handler.SocketHandler;
+import com.arenaaxis.messageservice.websocket.handler.SocketRoute;
+import com.arenaaxis.messageservice.websocket.session.SessionOutbox;
+import com.arenaaxis.messageservice.websocket.session.SessionOutboxFactory;
 import com.arenaaxis.messageservice.websocket.session.SessionRegistry;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
-import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class MessageWebsocketHandler implements WebSocketHandler {
-  ObjectMapper objectMapper;
-  List<SocketHandler> handlers;
-  SessionRegistry sessionRegistry;
+  private static final String REGISTER = "register";
+
+  private final Map<String, SocketRoute<?>> routes;
+  private final Map<WireFormat, SocketFrameReader> frameReaders = new EnumMap<>(WireFormat.class);
+  private final List<String> subProtocols = Arrays.stream(WireFormat.values())
+    .map(WireFormat::subProtocol)
+    .toList();
+  private final SessionRegistry sessionRegistry;
+  private final SessionOutboxFactory sessionOutboxFactory;
+
+  public MessageWebsocketHandler(
+    WireCodecs wireCodecs,
+    List<SocketHandler> handlers,
+    SessionRegistry sessionRegistry,
+    SessionOutboxFactory sessionOutboxFactory
+  ) {
+    this.routes = routeTable(handlers);
+    Function<String, Class<?>> payloadTypes = type -> {
+      SocketRoute<?> route = routes.get(type);
+      return route == null ? null : route.payloadType();
+    };
+    for (WireFormat format : WireFormat.values()) {
+      frameReaders.put(format, new SocketFrameReader(wireCodecs.mapper(format), payloadTypes));
+    }
+    this.sessionRegistry = sessionRegistry;
+    this.sessionOutboxFactory = sessionOutboxFactory;
+  }
 
   @Override
-  public Mono<Void> handle(WebSocketSession session) {
-    log.info("New WS session: {}", session.getId());
-    return session.receive()
-      .flatMap(webSocketMessage -> {
-        try {
-          Map<String, Object> payload = objectMapper.readValue(
-            webSocketMessage.getPayloadAsText(), Map.class
-          );
-          String type = payload.get("type").toString();
+  public List<String> getSubProtocols() {
+    return subProtocols;
+  }
 
-          if ("register".equals(type)) {
-            String userId = payload.get("userId").toString();
-            session.getAttributes().put("userId", userId);
-            sessionRegistry.register(userId, session);
-            log.info("Registered user {}", userId);
-            return Mono.empty();
-          }
+  @Override
+  public Mono<Void> handle(WebSocketSession session) {
+    WireFormat format = WireFormat.negotiated(session);
+    session.getAttributes().put(WireFormat.ATTRIBUTE, format);
+    log.info("New WS session: {} ({})", session.getId(), format);
+    SessionOutbox outbox = sessionOutboxFactory.create(session);
 
-          return handlers.stream()
-            .filter(h -> h.supports(type))
-            .findFirst()
-            .map(h -> h.handle(session, payload))
-            .orElseGet(() -> {
-              log.warn("No handler for type {}", type);
-              return Mono.empty();
-            });
-        } catch (Exception e) {
-          log.error(e.getMessage(), e);
-          return Mono.empty();
-        }
-      })
+    Mono<Void> input = session.receive()
+      .flatMap(webSocketMessage -> dispatch(session, webSocketMessage))
       .doFinally(signal -> {
         sessionRegistry.remove(session);
+        outbox.complete();
         log.info("WS disconnected: {}", session.getId());
       })
       .then();
+
+    return Mono.when(input, outbox.drain());
+  }
+
+  private Mono<Void> dispatch(WebSocketSession session, WebSocketMessage webSocketMessage) {
+    try {
+      SocketFrame frame = frameReaders.get(WireFormat.of(session))
+        .read(webSocketMessage.getPayload().asInputStream());
+
+      if (REGISTER.equals(frame.type())) {
+        session.getAttributes().put("userId", frame.userId());
+        sessionRegistry.register(frame.userId(), session);
+        log.info("Registered user {}", frame.userId());
+        return Mono.empty();
+      }
+
+      SocketRoute<?> route = routes.get(frame.type());
+      if (route == null) {
+        log.warn("No handler for type {}", frame.type());
+        return Mono.empty();
+      }
+
+      return route.dispatch(session, frame.data());
+    } catch (Exception e) {
+      log.error(e.getMessage(), e);
+      return Mono.empty();
+    }
+  }
+
+  private static Map<String, SocketRoute<?>> routeTable(List<SocketHandler> handlers) {
+    Map<String, SocketRoute<?>> table = new HashMap<>();
+    for (SocketHandler handler : handlers) {
+      for (SocketRoute<?> route : handler.routes()) {
+        if (REGISTER.equals(route.type()) || table.putIfAbsent(route.type(), route) != null) {
+          throw new IllegalStateException("Duplicate WebSocket route: " + route.type());
+        }
+      }
+    }
+    return Map.copyOf(table);
   }
 }
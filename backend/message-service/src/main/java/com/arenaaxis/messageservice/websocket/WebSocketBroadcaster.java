@@ -0,0 +1,53 @@
+package com.arenaaxis.messageservice.websocket;
+
+import com.arenaaxis.messageservice.websocket.codec.WireCodecs;
+import com.arenaaxis.messageservice.websocket.codec.WireFormat;
+import com.arenaaxis.messageservice.websocket.dto.response.WebSocketResponse;
+import com.arenaaxis.messageservice.websocket.session.SessionOutbox;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class WebSocketBroadcaster {
+  private final WireCodecs wireCodecs;
+  private final DistributionSummary recipients;
+
+  public WebSocketBroadcaster(WireCodecs wireCodecs, MeterRegistry meterRegistry) {
+    this.wireCodecs = wireCodecs;
+    this.recipients = DistributionSummary.builder("websocket.broadcast.recipients")
+      .register(meterRegistry);
+  }
+
+  public Mono<Void> send(WebSocketSession session, WebSocketResponse<?> response) {
+    return Mono.fromCallable(() -> serialize(WireFormat.of(session), response))
+      .flatMap(payload -> SessionOutbox.send(session, payload));
+  }
+
+  public Mono<Void> broadcast(Collection<WebSocketSession> sessions, WebSocketResponse<?> response) {
+    if (sessions.isEmpty()) return Mono.empty();
+
+    return Mono.fromCallable(() -> new EnumMap<WireFormat, byte[]>(WireFormat.class))
+      .flatMapMany(encoded -> Flux.fromIterable(sessions)
+        .filter(WebSocketSession::isOpen)
+        .flatMap(session -> SessionOutbox.send(session, payload(encoded, session, response)).thenReturn(session)))
+      .count()
+      .doOnNext(recipients::record)
+      .then();
+  }
+
+  public byte[] serialize(WireFormat format, WebSocketResponse<?> response) {
+    return wireCodecs.write(format, response);
+  }
+
+  private byte[] payload(Map<WireFormat, byte[]> encoded, WebSocketSession session, WebSocketResponse<?> response) {
+    return encoded.computeIfAbsent(WireFormat.of(session), format -> serialize(format, response));
+  }
+}
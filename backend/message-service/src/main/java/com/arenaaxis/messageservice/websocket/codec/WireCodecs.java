@@ -0,0 +1,33 @@
+package com.arenaaxis.messageservice.websocket.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class WireCodecs {
+  private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+
+  public WireCodecs(ObjectMapper objectMapper) {
+    mappers.put(WireFormat.JSON, objectMapper);
+    mappers.put(WireFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+    mappers.put(WireFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+  }
+
+  public ObjectMapper mapper(WireFormat format) {
+    return mappers.get(format);
+  }
+
+  public byte[] write(WireFormat format, Object value) {
+    try {
+      return mappers.get(format).writeValueAsBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.arenaaxis.messageservice.websocket.codec;
+
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+public enum WireFormat {
+  CBOR("chat.cbor", WebSocketMessage.Type.BINARY),
+  SMILE("chat.smile", WebSocketMessage.Type.BINARY),
+  JSON("chat.json", WebSocketMessage.Type.TEXT);
+
+  public static final String ATTRIBUTE = "wireFormat";
+
+  private final String subProtocol;
+  private final WebSocketMessage.Type messageType;
+
+  WireFormat(String subProtocol, WebSocketMessage.Type messageType) {
+    this.subProtocol = subProtocol;
+    this.messageType = messageType;
+  }
+
+  public String subProtocol() {
+    return subProtocol;
+  }
+
+  public WebSocketMessage.Type messageType() {
+    return messageType;
+  }
+
+  public static WireFormat negotiated(WebSocketSession session) {
+    String subProtocol = session.getHandshakeInfo().getSubProtocol();
+    for (WireFormat format : values()) {
+      if (format.subProtocol.equals(subProtocol)) return format;
+    }
+    return JSON;
+  }
+
+  public static WireFormat of(WebSocketSession session) {
+    return session.getAttributes().get(ATTRIBUTE) instanceof WireFormat format ? format : JSON;
+  }
+}
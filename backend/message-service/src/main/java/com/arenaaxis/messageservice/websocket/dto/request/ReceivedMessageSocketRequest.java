@@ -0,0 +1,13 @@
+package com.arenaaxis.messageservice.websocket.dto.request;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ReceivedMessageSocketRequest {
+  String messageId;
+}
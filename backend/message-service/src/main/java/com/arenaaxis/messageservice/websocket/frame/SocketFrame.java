@@ -0,0 +1,4 @@
+package com.arenaaxis.messageservice.websocket.frame;
+
+public record SocketFrame(String type, String userId, Object data) {
+}
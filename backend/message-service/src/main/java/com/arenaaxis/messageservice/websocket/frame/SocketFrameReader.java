@@ -0,0 +1,75 @@
+package com.arenaaxis.messageservice.websocket.frame;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Function;
+
+public class SocketFrameReader {
+  private final ObjectMapper objectMapper;
+  private final Function<String, Class<?>> payloadTypes;
+
+  public SocketFrameReader(ObjectMapper objectMapper, Function<String, Class<?>> payloadTypes) {
+    this.objectMapper = objectMapper;
+    this.payloadTypes = payloadTypes;
+  }
+
+  public SocketFrame read(InputStream input) throws IOException {
+    try (JsonParser parser = objectMapper.createParser(input)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "WebSocket frame must be a JSON object");
+      }
+
+      String type = null;
+      String userId = null;
+      Object data = null;
+      TokenBuffer pendingData = null;
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+
+        switch (field) {
+          case "type" -> type = parser.getValueAsString();
+          case "userId" -> userId = parser.getValueAsString();
+          case "data" -> {
+            if (type == null) {
+              pendingData = new TokenBuffer(parser);
+              pendingData.copyCurrentStructure(parser);
+            } else {
+              data = readData(parser, type);
+            }
+          }
+          default -> parser.skipChildren();
+        }
+      }
+
+      if (type == null) {
+        throw new JsonParseException(parser, "WebSocket frame has no type");
+      }
+
+      if (pendingData != null) {
+        try (JsonParser buffered = pendingData.asParser(objectMapper)) {
+          buffered.nextToken();
+          data = readData(buffered, type);
+        }
+      }
+
+      return new SocketFrame(type, userId, data);
+    }
+  }
+
+  private Object readData(JsonParser parser, String type) throws IOException {
+    Class<?> payloadType = payloadTypes.apply(type);
+    if (payloadType == null) {
+      parser.skipChildren();
+      return null;
+    }
+    return objectMapper.readValue(parser, payloadType);
+  }
+}
@@ -4,25 +4,24 @@ import com.arenaaxis.messageservice.model.Message;
 import com.arenaaxis.messageservice.service.MessageService;
 import com.arenaaxis.messageservice.service.ParticipantService;
 import com.arenaaxis.messageservice.websocket.dto.request.MessageSocketRequest;
+import com.arenaaxis.messageservice.websocket.dto.request.ReceivedMessageSocketRequest;
 import com.arenaaxis.messageservice.websocket.dto.response.SeenMessageResponse;
 import com.arenaaxis.messageservice.websocket.dto.response.SendMessageResponse;
 import com.arenaaxis.messageservice.websocket.dto.response.WebSocketResponse;
+import com.arenaaxis.messageservice.websocket.WebSocketBroadcaster;
 import com.arenaaxis.messageservice.websocket.mapper.MessageSocketMapper;
 import com.arenaaxis.messageservice.websocket.session.SessionRegistry;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketSession;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.function.BiFunction;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -32,47 +31,28 @@ public class MessageHandler implements SocketHandler {
   MessageService messageService;
   ParticipantService participantService;
   MessageSocketMapper messageSocketMapper;
-  ObjectMapper objectMapper;
   SessionRegistry sessionRegistry;
-
-  @NonFinal
-  Map<String, BiFunction<WebSocketSession, Map<String, Object>, Mono<Void>>> actions;
-
-  @PostConstruct
-  public void init() {
-    actions = Map.of(
-      "message.send", this::sendMessage,
-      "message.received", this::markReceived
-    );
-  }
+  WebSocketBroadcaster webSocketBroadcaster;
 
   @Override
-  public boolean supports(String type) {
-    return type.startsWith("message.");
-  }
-
-  @Override
-  public Mono<Void> handle(WebSocketSession session, Map<String, Object> payload) {
-    String type = payload.get("type").toString();
-
-    return actions
-      .getOrDefault(type, this::unknown)
-      .apply(session, payload);
+  public List<SocketRoute<?>> routes() {
+    return List.of(
+      SocketRoute.of("message.send", MessageSocketRequest.class, this::sendMessage),
+      SocketRoute.of("message.received", ReceivedMessageSocketRequest.class, this::markReceived)
+    );
   }
 
-  private Mono<Void> sendMessage(WebSocketSession session, Map<String, Object> payload) {
+  private Mono<Void> sendMessage(WebSocketSession session, MessageSocketRequest request) {
     String senderId =
       session.getAttributes().get("userId").toString();
 
-    MessageSocketRequest request =
-      objectMapper.convertValue(payload.get("data"), MessageSocketRequest.class);
     request.setSenderId(senderId);
 
-    WebSocketSession receiver =
-      sessionRegistry.get(request.getReceiverId());
+    Set<WebSocketSession> receivers =
+      sessionRegistry.getSessions(request.getReceiverId());
 
     Message.MessageStatus status =
-      isOnline(receiver)
+      receivers.stream().anyMatch(this::isOnline)
         ? Message.MessageStatus.RECEIVED
         : Message.MessageStatus.SEND;
 
@@ -85,17 +65,16 @@ public class MessageHandler implements SocketHandler {
       .createMessage(request.getReceiverId(), message)
       .flatMap(this::mapToSendResponse)
       .flatMap(resp ->
-        notifyReceiverIfNeeded(receiver, status, resp)
+        notifyReceiverIfNeeded(receivers, status, resp)
           .then(sendReceiveAckToSender(session, resp))
       );
   }
 
-  private Mono<Void> markReceived(WebSocketSession session, Map<String, Object> payload) {
+  private Mono<Void> markReceived(WebSocketSession session, ReceivedMessageSocketRequest request) {
     String readerId =
       session.getAttributes().get("userId").toString();
 
-    String messageId = ((Map<String, Object>) payload.get("data"))
-      .get("messageId").toString();
+    String messageId = request.getMessageId();
 
     return messageService
       .seenMessage(messageId, readerId)
@@ -105,7 +84,7 @@ public class MessageHandler implements SocketHandler {
   }
 
   private Mono<Void> notifyReceiverIfNeeded(
-    WebSocketSession receiver,
+    Set<WebSocketSession> receivers,
     Message.MessageStatus status,
     SendMessageResponse response
   ) {
@@ -119,9 +98,7 @@ public class MessageHandler implements SocketHandler {
         .data(response)
         .build();
 
-    return receiver.send(Mono.just(
-      receiver.textMessage(writeJson(wsResponse))
-    ));
+    return webSocketBroadcaster.broadcast(receivers, wsResponse);
   }
 
   private Mono<SendMessageResponse> mapToSendResponse(Message message) {
@@ -156,18 +133,16 @@ public class MessageHandler implements SocketHandler {
         .data(response)
         .build();
 
-    return session.send(Mono.just(
-      session.textMessage(writeJson(ack))
-    ));
+    return webSocketBroadcaster.send(session, ack);
   }
 
   private Mono<Void> notifySenderMessageReceived(
     Message message,
     String readerId
   ) {
-    WebSocketSession sender = sessionRegistry.get(message.getSenderId());
+    Set<WebSocketSession> senders = sessionRegistry.getSessions(message.getSenderId());
 
-    if (!isOnline(sender)) {
+    if (senders.stream().noneMatch(this::isOnline)) {
       return Mono.empty();
     }
 
@@ -179,29 +154,11 @@ public class MessageHandler implements SocketHandler {
             .data(seenResponse)
             .build();
 
-        return sender.send(Mono.just(
-          sender.textMessage(writeJson(response))
-        ));
+        return webSocketBroadcaster.broadcast(senders, response);
       });
   }
 
-  private String writeJson(Object obj) {
-    try {
-      return objectMapper.writeValueAsString(obj);
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
-  }
-
   private boolean isOnline(WebSocketSession session) {
     return session != null && session.isOpen();
   }
-
-  private Mono<Void> unknown(
-    WebSocketSession session,
-    Map<String, Object> payload
-  ) {
-    log.warn("Unknown message action: {}", payload.get("type"));
-    return Mono.empty();
-  }
 }
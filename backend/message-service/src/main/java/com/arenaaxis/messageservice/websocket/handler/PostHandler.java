@@ -5,14 +5,13 @@ import com.arenaaxis.messageservice.dto.response.ApplyPostResponse;
 import com.arenaaxis.messageservice.dto.response.ApplyResponse;
 import com.arenaaxis.messageservice.service.PostService;
 import com.arenaaxis.messageservice.websocket.dto.request.ApplyPostSocketRequest;
+import com.arenaaxis.messageservice.websocket.WebSocketBroadcaster;
 import com.arenaaxis.messageservice.websocket.dto.response.WebSocketResponse;
 import com.arenaaxis.messageservice.websocket.session.SessionRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
-import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketSession;
@@ -21,8 +20,6 @@ import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.function.BiFunction;
 
 @Slf4j
 @Component
@@ -32,38 +29,18 @@ public class PostHandler implements SocketHandler{
   PostService postService;
   private final ObjectMapper objectMapper;
   private final SessionRegistry sessionRegistry;
-
-  @NonFinal
-  Map<String, BiFunction<WebSocketSession, Map<String, Object>, Mono<Void>>> actions;
-
-  @PostConstruct
-  public void init() {
-    actions = Map.of(
-      "post.apply", this::apply,
-      "post.comment", this::comment
-    );
-  }
-
-  @Override
-  public boolean supports(String type) {
-    return type.startsWith("post.");
-  }
+  private final WebSocketBroadcaster webSocketBroadcaster;
 
   @Override
-  public Mono<Void> handle(WebSocketSession session, Map<String, Object> payload) {
-    String type = payload.get("type").toString();
-
-    return actions
-      .getOrDefault(type, this::unknown)
-      .apply(session, payload);
+  public List<SocketRoute<?>> routes() {
+    return List.of(
+      SocketRoute.of("post.apply", ApplyPostSocketRequest.class, this::apply)
+    );
   }
 
-  private Mono<Void> apply(WebSocketSession session, Map<String, Object> payload) {
+  private Mono<Void> apply(WebSocketSession session, ApplyPostSocketRequest socketRequest) {
     String applierId = session.getAttributes().get("userId").toString();
 
-    ApplyPostSocketRequest socketRequest = objectMapper
-      .convertValue(payload.get("data"), ApplyPostSocketRequest.class);
-
     ApplyPostRequest request = ApplyPostRequest.builder()
       .userId(applierId)
       .postId(socketRequest.getPostId())
@@ -93,15 +70,11 @@ public class PostHandler implements SocketHandler{
     return Flux.fromIterable(receiverIds)
       .filter(id -> !id.equals(applyResponse.getApplier().getId()))
       .distinct()
-      .flatMap(id -> Mono.justOrEmpty(sessionRegistry.get(id)))
+      .flatMapIterable(sessionRegistry::getSessions)
       .filter(this::isOnline)
-      .flatMap(session ->
-        session.send(
-          Mono.just(session.textMessage(writeJson(response)))
-        )
-      )
-      .doOnError(ex -> log.error("Log receive apply event", ex.fillInStackTrace()))
-      .then();
+      .collectList()
+      .flatMap(sessions -> webSocketBroadcaster.broadcast(sessions, response))
+      .doOnError(ex -> log.error("Log receive apply event", ex.fillInStackTrace()));
   }
 
   private boolean isOnline(WebSocketSession session) {
@@ -115,16 +88,4 @@ public class PostHandler implements SocketHandler{
       throw new RuntimeException(e);
     }
   }
-
-  private Mono<Void> comment(WebSocketSession session, Map<String, Object> payload) {
-    return null;
-  }
-
-  private Mono<Void> unknown(
-    WebSocketSession session,
-    Map<String, Object> payload
-  ) {
-    log.warn("Unknown post action: {}", payload.get("type"));
-    return Mono.empty();
-  }
 }
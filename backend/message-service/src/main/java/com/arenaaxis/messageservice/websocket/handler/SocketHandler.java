@@ -1,11 +1,7 @@
 package com.arenaaxis.messageservice.websocket.handler;
 
-import org.springframework.web.reactive.socket.WebSocketSession;
-import reactor.core.publisher.Mono;
-
-import java.util.Map;
+import java.util.List;
 
 public interface SocketHandler {
-  boolean supports(String type);
-  Mono<Void> handle(WebSocketSession session, Map<String, Object> payload);
+  List<SocketRoute<?>> routes();
 }
@@ -0,0 +1,24 @@
+package com.arenaaxis.messageservice.websocket.handler;
+
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Mono;
+
+import java.util.function.BiFunction;
+
+public record SocketRoute<T>(
+  String type,
+  Class<T> payloadType,
+  BiFunction<WebSocketSession, T, Mono<Void>> action
+) {
+  public static <T> SocketRoute<T> of(
+    String type,
+    Class<T> payloadType,
+    BiFunction<WebSocketSession, T, Mono<Void>> action
+  ) {
+    return new SocketRoute<>(type, payloadType, action);
+  }
+
+  public Mono<Void> dispatch(WebSocketSession session, Object payload) {
+    return action.apply(session, payloadType.cast(payload));
+  }
+}
@@ -0,0 +1,24 @@
+package com.arenaaxis.messageservice.websocket.mux;
+
+import java.util.Optional;
+
+public record MultiplexFrame(char op, String sessionId, String payload) {
+  public static final char OPEN = 'O';
+  public static final char DATA = 'D';
+  public static final char CLOSE = 'C';
+
+  public static Optional<MultiplexFrame> parse(String text) {
+    if (text == null || text.length() < 3 || text.charAt(1) != ':') return Optional.empty();
+
+    int newline = text.indexOf('\n');
+    String sessionId = newline < 0 ? text.substring(2) : text.substring(2, newline);
+    if (sessionId.isEmpty()) return Optional.empty();
+
+    String payload = newline < 0 ? "" : text.substring(newline + 1);
+    return Optional.of(new MultiplexFrame(text.charAt(0), sessionId, payload));
+  }
+
+  public static String encode(char op, String sessionId, String payload) {
+    return op + ":" + sessionId + "\n" + payload;
+  }
+}
@@ -0,0 +1,28 @@
+package com.arenaaxis.messageservice.websocket.mux;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.util.function.Function;
+
+class MultiplexOutbound {
+  private static final int PREFETCH = Queues.XS_BUFFER_SIZE;
+
+  private final Sinks.Many<Flux<String>> streams = Sinks.many().unicast().onBackpressureBuffer();
+
+  synchronized boolean add(Publisher<String> frames) {
+    return streams.tryEmitNext(Flux.from(frames)).isSuccess();
+  }
+
+  synchronized void complete() {
+    streams.tryEmitComplete();
+  }
+
+  // Each stream is only requested PREFETCH frames ahead of the transport, so a slow transport
+  // backs up into the producer instead of an unbounded buffer here.
+  Flux<String> frames() {
+    return streams.asFlux().flatMap(Function.identity(), Integer.MAX_VALUE, PREFETCH);
+  }
+}
@@ -0,0 +1,102 @@
+package com.arenaaxis.messageservice.websocket.mux;
+
+import com.arenaaxis.messageservice.websocket.MessageWebsocketHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class MultiplexedWebsocketHandler implements WebSocketHandler {
+  private final MessageWebsocketHandler messageWebsocketHandler;
+  private final int inboundCapacity;
+  private final AtomicInteger transports = new AtomicInteger();
+  private final AtomicInteger virtualSessions = new AtomicInteger();
+
+  public MultiplexedWebsocketHandler(
+    MessageWebsocketHandler messageWebsocketHandler,
+    MeterRegistry meterRegistry,
+    @Value("${websocket.mux.inbound-capacity}") int inboundCapacity
+  ) {
+    this.messageWebsocketHandler = messageWebsocketHandler;
+    this.inboundCapacity = inboundCapacity;
+    Gauge.builder("websocket.mux.transports", transports, AtomicInteger::get)
+      .register(meterRegistry);
+    Gauge.builder("websocket.mux.sessions", virtualSessions, AtomicInteger::get)
+      .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Void> handle(WebSocketSession transport) {
+    log.info("New multiplexed transport: {}", transport.getId());
+    transports.incrementAndGet();
+
+    MultiplexOutbound outbound = new MultiplexOutbound();
+    Map<String, VirtualWebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    Mono<Void> input = transport.receive()
+      .map(WebSocketMessage::getPayloadAsText)
+      .doOnNext(text -> MultiplexFrame.parse(text).ifPresentOrElse(
+        frame -> dispatch(frame, transport, outbound, sessions),
+        () -> log.warn("Dropping malformed multiplex frame on transport {}", transport.getId())))
+      .then()
+      .doFinally(signal -> {
+        sessions.values().forEach(VirtualWebSocketSession::terminate);
+        outbound.complete();
+      });
+    Mono<Void> output = transport.send(outbound.frames().map(transport::textMessage));
+
+    return Mono.when(input, output)
+      .doFinally(signal -> {
+        transports.decrementAndGet();
+        sessions.values().forEach(VirtualWebSocketSession::terminate);
+        log.info("Multiplexed transport closed: {}", transport.getId());
+      });
+  }
+
+  private void dispatch(
+    MultiplexFrame frame,
+    WebSocketSession transport,
+    MultiplexOutbound outbound,
+    Map<String, VirtualWebSocketSession> sessions
+  ) {
+    switch (frame.op()) {
+      case MultiplexFrame.OPEN -> {
+        VirtualWebSocketSession session = new VirtualWebSocketSession(
+          frame.sessionId(), transport, outbound, inboundCapacity);
+        if (sessions.putIfAbsent(frame.sessionId(), session) != null) return;
+
+        virtualSessions.incrementAndGet();
+        messageWebsocketHandler.handle(session)
+          .doFinally(signal -> {
+            sessions.remove(frame.sessionId(), session);
+            virtualSessions.decrementAndGet();
+          })
+          .subscribe();
+      }
+      case MultiplexFrame.DATA -> {
+        VirtualWebSocketSession session = sessions.get(frame.sessionId());
+        if (session != null && !session.deliver(frame.payload())) {
+          log.warn("Closing multiplexed session {}: inbound queue exceeded {}", session.getId(), inboundCapacity);
+          session.close(CloseStatus.POLICY_VIOLATION).subscribe();
+        }
+      }
+      case MultiplexFrame.CLOSE -> {
+        VirtualWebSocketSession session = sessions.get(frame.sessionId());
+        if (session != null) session.terminate();
+      }
+      default -> log.warn("Unknown multiplex frame {} for session {}", frame.op(), frame.sessionId());
+    }
+  }
+}
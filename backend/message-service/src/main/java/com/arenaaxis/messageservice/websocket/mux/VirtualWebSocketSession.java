@@ -0,0 +1,149 @@
+package com.arenaaxis.messageservice.websocket.mux;
+
+import com.arenaaxis.messageservice.websocket.codec.WireFormat;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+public class VirtualWebSocketSession implements WebSocketSession {
+  private final String id;
+  private final String channelId;
+  private final WebSocketSession transport;
+  private final MultiplexOutbound outbound;
+  private final Sinks.Many<WebSocketMessage> inbound;
+  private final Sinks.One<CloseStatus> closeStatus = Sinks.one();
+  private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+  private final AtomicBoolean open = new AtomicBoolean(true);
+
+  VirtualWebSocketSession(
+    String channelId,
+    WebSocketSession transport,
+    MultiplexOutbound outbound,
+    int inboundCapacity
+  ) {
+    this.id = transport.getId() + ":" + channelId;
+    this.channelId = channelId;
+    this.transport = transport;
+    this.outbound = outbound;
+    this.inbound = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(inboundCapacity));
+  }
+
+  boolean deliver(String payload) {
+    if (!open.get()) return true;
+    return inbound.tryEmitNext(textMessage(payload)) != Sinks.EmitResult.FAIL_OVERFLOW;
+  }
+
+  void terminate() {
+    if (open.compareAndSet(true, false)) {
+      inbound.tryEmitComplete();
+      closeStatus.tryEmitValue(CloseStatus.NORMAL);
+    }
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public HandshakeInfo getHandshakeInfo() {
+    return jsonHandshake(transport.getHandshakeInfo());
+  }
+
+  @Override
+  public DataBufferFactory bufferFactory() {
+    return transport.bufferFactory();
+  }
+
+  @Override
+  public Map<String, Object> getAttributes() {
+    return attributes;
+  }
+
+  @Override
+  public Flux<WebSocketMessage> receive() {
+    return inbound.asFlux();
+  }
+
+  @Override
+  public Mono<Void> send(Publisher<WebSocketMessage> messages) {
+    return Mono.defer(() -> {
+      Sinks.Empty<Void> done = Sinks.empty();
+      Flux<String> frames = Flux.from(messages)
+        .map(this::dataFrame)
+        .takeUntilOther(closeStatus.asMono())
+        .doOnError(done::tryEmitError)
+        .doFinally(signal -> done.tryEmitEmpty());
+      return outbound.add(frames) ? done.asMono() : Mono.empty();
+    });
+  }
+
+  @Override
+  public boolean isOpen() {
+    return open.get() && transport.isOpen();
+  }
+
+  @Override
+  public Mono<Void> close(CloseStatus status) {
+    return Mono.fromRunnable(() -> {
+      if (open.compareAndSet(true, false)) {
+        outbound.add(Mono.just(MultiplexFrame.encode(MultiplexFrame.CLOSE, channelId, "")));
+        inbound.tryEmitComplete();
+        closeStatus.tryEmitValue(status);
+      }
+    });
+  }
+
+  @Override
+  public Mono<CloseStatus> closeStatus() {
+    return closeStatus.asMono();
+  }
+
+  private String dataFrame(WebSocketMessage message) {
+    String text = message.getPayloadAsText();
+    message.release();
+    return MultiplexFrame.encode(MultiplexFrame.DATA, channelId, text);
+  }
+
+  @Override
+  public WebSocketMessage textMessage(String payload) {
+    DataBuffer buffer = bufferFactory().wrap(payload.getBytes(StandardCharsets.UTF_8));
+    return new WebSocketMessage(WebSocketMessage.Type.TEXT, buffer);
+  }
+
+  @Override
+  public WebSocketMessage binaryMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+    return new WebSocketMessage(WebSocketMessage.Type.BINARY, payloadFactory.apply(bufferFactory()));
+  }
+
+  @Override
+  public WebSocketMessage pingMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+    return new WebSocketMessage(WebSocketMessage.Type.PING, payloadFactory.apply(bufferFactory()));
+  }
+
+  @Override
+  public WebSocketMessage pongMessage(Function<DataBufferFactory, DataBuffer> payloadFactory) {
+    return new WebSocketMessage(WebSocketMessage.Type.PONG, payloadFactory.apply(bufferFactory()));
+  }
+
+  // Mux frames carry text payloads only, so virtual sessions always negotiate JSON regardless of the transport
+  private static HandshakeInfo jsonHandshake(HandshakeInfo transport) {
+    return new HandshakeInfo(transport.getUri(), transport.getHeaders(), transport.getCookies(),
+      transport.getPrincipal(), WireFormat.JSON.subProtocol(), transport.getRemoteAddress(),
+      transport.getAttributes(), transport.getLogPrefix());
+  }
+}
@@ -0,0 +1,6 @@
+package com.arenaaxis.messageservice.websocket.session;
+
+public enum OverflowPolicy {
+  DROP_OLDEST,
+  DISCONNECT
+}
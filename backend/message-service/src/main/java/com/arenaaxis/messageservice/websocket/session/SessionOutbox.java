@@ -0,0 +1,108 @@
+package com.arenaaxis.messageservice.websocket.session;
+
+import com.arenaaxis.messageservice.websocket.codec.WireFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class SessionOutbox {
+  static final String ATTRIBUTE = "outbox";
+
+  private final WebSocketSession session;
+  private final int capacity;
+  private final OverflowPolicy policy;
+  private final Sinks.Many<byte[]> sink = Sinks.many().unicast().onBackpressureBuffer();
+  private final AtomicInteger depth = new AtomicInteger();
+  private final AtomicLong totalQueued;
+  private final DistributionSummary depthSummary;
+  private final Counter dropped;
+  private final Counter disconnected;
+
+  SessionOutbox(
+    WebSocketSession session,
+    int capacity,
+    OverflowPolicy policy,
+    AtomicLong totalQueued,
+    DistributionSummary depthSummary,
+    Counter dropped,
+    Counter disconnected
+  ) {
+    this.session = session;
+    this.capacity = capacity;
+    this.policy = policy;
+    this.totalQueued = totalQueued;
+    this.depthSummary = depthSummary;
+    this.dropped = dropped;
+    this.disconnected = disconnected;
+  }
+
+  public static Mono<Void> send(WebSocketSession session, byte[] payload) {
+    Object outbox = session.getAttributes().get(ATTRIBUTE);
+    if (outbox instanceof SessionOutbox sessionOutbox) {
+      return Mono.fromRunnable(() -> sessionOutbox.offer(payload));
+    }
+    return session.send(Mono.just(message(session, payload)));
+  }
+
+  public void offer(byte[] payload) {
+    int queued = depth.incrementAndGet();
+    totalQueued.incrementAndGet();
+
+    Sinks.EmitResult result = sink.tryEmitNext(payload);
+    while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+      Thread.onSpinWait();
+      result = sink.tryEmitNext(payload);
+    }
+
+    if (result.isFailure()) {
+      dequeued();
+      return;
+    }
+    depthSummary.record(queued);
+  }
+
+  public Mono<Void> drain() {
+    BufferOverflowStrategy strategy = policy == OverflowPolicy.DROP_OLDEST
+      ? BufferOverflowStrategy.DROP_OLDEST
+      : BufferOverflowStrategy.ERROR;
+
+    return session.send(sink.asFlux()
+        .onBackpressureBuffer(capacity, overflow -> {
+          dequeued();
+          dropped.increment();
+        }, strategy)
+        .doOnNext(payload -> dequeued())
+        .map(payload -> message(session, payload)))
+      .onErrorResume(Exceptions::isOverflow, error -> {
+        disconnected.increment();
+        log.warn("Closing slow WebSocket session {}: outbound queue exceeded {}", session.getId(), capacity);
+        return session.close(CloseStatus.POLICY_VIOLATION);
+      })
+      .doFinally(signal -> totalQueued.addAndGet(-depth.getAndSet(0)));
+  }
+
+  public void complete() {
+    sink.tryEmitComplete();
+  }
+
+  private static WebSocketMessage message(WebSocketSession session, byte[] payload) {
+    return new WebSocketMessage(WireFormat.of(session).messageType(), session.bufferFactory().wrap(payload));
+  }
+
+  private void dequeued() {
+    if (depth.getAndUpdate(current -> Math.max(0, current - 1)) > 0) {
+      totalQueued.decrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.arenaaxis.messageservice.websocket.session;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class SessionOutboxFactory {
+  private final int capacity;
+  private final OverflowPolicy policy;
+  private final AtomicLong totalQueued = new AtomicLong();
+  private final DistributionSummary depthSummary;
+  private final Counter dropped;
+  private final Counter disconnected;
+
+  public SessionOutboxFactory(
+    MeterRegistry meterRegistry,
+    @Value("${websocket.outbound.capacity}") int capacity,
+    @Value("${websocket.outbound.overflow}") OverflowPolicy policy
+  ) {
+    this.capacity = capacity;
+    this.policy = policy;
+    Gauge.builder("websocket.outbound.queued", totalQueued, AtomicLong::get)
+      .register(meterRegistry);
+    this.depthSummary = DistributionSummary.builder("websocket.outbound.queue.depth")
+      .register(meterRegistry);
+    this.dropped = Counter.builder("websocket.outbound.dropped")
+      .tag("policy", policy.name())
+      .register(meterRegistry);
+    this.disconnected = Counter.builder("websocket.outbound.disconnected")
+      .register(meterRegistry);
+  }
+
+  public SessionOutbox create(WebSocketSession session) {
+    SessionOutbox outbox = new SessionOutbox(
+      session, capacity, policy, totalQueued, depthSummary, dropped, disconnected);
+    session.getAttributes().put(SessionOutbox.ATTRIBUTE, outbox);
+    return outbox;
+  }
+}
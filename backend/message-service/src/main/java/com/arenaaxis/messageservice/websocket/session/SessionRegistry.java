@@ -1,24 +1,60 @@
 package com.arenaaxis.messageservice.websocket.session;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.socket.WebSocketSession;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class SessionRegistry {
-  private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+  private final Map<String, Set<WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+  private final Map<String, String> userBySession = new ConcurrentHashMap<>();
+
+  public SessionRegistry(MeterRegistry meterRegistry) {
+    Gauge.builder("websocket.sessions", userBySession, Map::size)
+      .register(meterRegistry);
+    Gauge.builder("websocket.users.online", sessionsByUser, Map::size)
+      .register(meterRegistry);
+  }
 
   public void register(String userId, WebSocketSession session) {
-    sessions.put(userId, session);
+    String previous = userBySession.put(session.getId(), userId);
+    if (previous != null && !previous.equals(userId)) {
+      detach(previous, session);
+    }
+
+    sessionsByUser.compute(userId, (id, sessions) -> {
+      Set<WebSocketSession> result = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+      result.add(session);
+      return result;
+    });
   }
 
-  public WebSocketSession get(String userId) {
-    return sessions.get(userId);
+  public Set<WebSocketSession> getSessions(String userId) {
+    Set<WebSocketSession> sessions = sessionsByUser.get(userId);
+    return sessions != null ? Collections.unmodifiableSet(sessions) : Set.of();
+  }
+
+  public boolean isOnline(String userId) {
+    return getSessions(userId).stream().anyMatch(WebSocketSession::isOpen);
   }
 
   public void remove(WebSocketSession session) {
-    sessions.entrySet().removeIf(entry -> entry.getValue() == session);
+    String userId = userBySession.remove(session.getId());
+    if (userId != null) {
+      detach(userId, session);
+    }
+  }
+
+  private void detach(String userId, WebSocketSession session) {
+    sessionsByUser.computeIfPresent(userId, (id, sessions) -> {
+      sessions.remove(session);
+      return sessions.isEmpty() ? null : sessions;
+    });
   }
 }
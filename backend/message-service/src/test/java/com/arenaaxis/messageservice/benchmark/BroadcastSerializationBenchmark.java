@@ -0,0 +1,115 @@
+package com.arenaaxis.messageservice.benchmark;
+
+import com.arenaaxis.messageservice.config.JacksonConfig;
+import com.arenaaxis.messageservice.model.Message;
+import com.arenaaxis.messageservice.model.Participant;
+import com.arenaaxis.messageservice.websocket.dto.response.SendMessageResponse;
+import com.arenaaxis.messageservice.websocket.dto.response.WebSocketResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// mvn test -Dtest=BroadcastSerializationBenchmark -Dbenchmark=true [-Dbenchmark.recipients=1,5,20,100] [-Dbenchmark.seconds=2]
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BroadcastSerializationBenchmark {
+  private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+  private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+  private final com.sun.management.ThreadMXBean threads =
+    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private long sink;
+
+  @Test
+  void serializationCostAgainstRecipients() throws Exception {
+    long seconds = Long.getLong("benchmark.seconds", 2);
+    int[] recipientCounts = Arrays.stream(System.getProperty("benchmark.recipients", "1,5,20,100").split(","))
+      .map(String::trim)
+      .mapToInt(Integer::parseInt)
+      .toArray();
+    WebSocketResponse<SendMessageResponse> response = response();
+
+    System.out.printf("%-12s %-16s %-14s %-16s%n", "recipients", "strategy", "us/broadcast", "bytes/broadcast");
+    for (int recipients : recipientCounts) {
+      report(recipients, "per-recipient", seconds, () -> perRecipient(response, recipients));
+      report(recipients, "serialize-once", seconds, () -> serializeOnce(response, recipients));
+    }
+    assertTrue(sink != 0);
+  }
+
+  private void perRecipient(WebSocketResponse<?> response, int recipients) throws Exception {
+    for (int i = 0; i < recipients; i++) {
+      String json = objectMapper.writeValueAsString(response);
+      WebSocketMessage message = new WebSocketMessage(WebSocketMessage.Type.TEXT,
+        bufferFactory.wrap(json.getBytes(StandardCharsets.UTF_8)));
+      sink += message.getPayload().readableByteCount();
+    }
+  }
+
+  private void serializeOnce(WebSocketResponse<?> response, int recipients) throws Exception {
+    byte[] payload = objectMapper.writeValueAsBytes(response);
+    for (int i = 0; i < recipients; i++) {
+      WebSocketMessage message = new WebSocketMessage(WebSocketMessage.Type.TEXT, bufferFactory.wrap(payload));
+      sink += message.getPayload().readableByteCount();
+    }
+  }
+
+  private void report(int recipients, String strategy, long seconds, Broadcast broadcast) throws Exception {
+    run(broadcast, 1);
+
+    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+    long started = System.nanoTime();
+    long ops = run(broadcast, seconds);
+    double nanosPerOp = (double) (System.nanoTime() - started) / ops;
+    double bytesPerOp = (double) (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / ops;
+
+    System.out.printf("%-12d %-16s %-14.2f %-16.0f%n", recipients, strategy, nanosPerOp / 1000, bytesPerOp);
+  }
+
+  private long run(Broadcast broadcast, long seconds) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    long ops = 0;
+    while (System.nanoTime() < deadline) {
+      broadcast.run();
+      ops++;
+    }
+    return ops;
+  }
+
+  private WebSocketResponse<SendMessageResponse> response() {
+    Participant sender = Participant.builder()
+      .id("9f1c2d3e-4b5a-6c7d-8e9f-0a1b2c3d4e5f")
+      .name("Nguyễn Văn An")
+      .email("an.nguyen@arenaaxis.com")
+      .avatarUrl("https://res.cloudinary.com/arenaaxis/image/upload/v1/avatars/an.jpg")
+      .build();
+
+    return WebSocketResponse.<SendMessageResponse>builder()
+      .type("message.receive")
+      .data(SendMessageResponse.builder()
+        .sender(sender)
+        .content("Tối nay 19h sân số 3 nhé, mọi người nhớ mang giày đinh dăm và nước uống.")
+        .conversationId("c1a2b3c4-d5e6-f7a8-b9c0-d1e2f3a4b5c6")
+        .status(Message.MessageStatus.RECEIVED)
+        .timestamp(LocalDateTime.now())
+        .build())
+      .build();
+  }
+
+  @FunctionalInterface
+  private interface Broadcast {
+    void run() throws Exception;
+  }
+}
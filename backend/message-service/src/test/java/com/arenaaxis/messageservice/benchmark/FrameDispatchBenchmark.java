@@ -0,0 +1,93 @@
+package com.arenaaxis.messageservice.benchmark;
+
+import com.arenaaxis.messageservice.config.JacksonConfig;
+import com.arenaaxis.messageservice.websocket.dto.request.MessageSocketRequest;
+import com.arenaaxis.messageservice.websocket.frame.SocketFrame;
+import com.arenaaxis.messageservice.websocket.frame.SocketFrameReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// mvn test -Dtest=FrameDispatchBenchmark -Dbenchmark=true [-Dbenchmark.seconds=3]
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FrameDispatchBenchmark {
+  private static final byte[] FRAME = ("""
+    {"type":"message.send","data":{"receiverId":"c1a2b3c4-d5e6-f7a8-b9c0-d1e2f3a4b5c6",\
+    "content":"Tối nay 19h sân số 3 nhé, mọi người nhớ mang giày đinh dăm và nước uống."}}""")
+    .getBytes(StandardCharsets.UTF_8);
+
+  private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+  private final SocketFrameReader frameReader = new SocketFrameReader(objectMapper,
+    type -> "message.send".equals(type) ? MessageSocketRequest.class : null);
+  private final com.sun.management.ThreadMXBean threads =
+    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private long sink;
+
+  @Test
+  void framesPerSecond() throws Exception {
+    long seconds = Long.getLong("benchmark.seconds", 3);
+
+    System.out.printf("%-14s %-14s %-16s%n", "strategy", "frames/s", "bytes/frame");
+    report("map+convert", seconds, this::mapThenConvert);
+    report("typed-stream", seconds, this::typedStream);
+
+    assertEquals(mapThenConvert(payload()), typedStream(payload()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private String mapThenConvert(DataBuffer payload) throws Exception {
+    Map<String, Object> frame = objectMapper.readValue(payload.toString(StandardCharsets.UTF_8), Map.class);
+    String type = frame.get("type").toString();
+    MessageSocketRequest request = objectMapper.convertValue(frame.get("data"), MessageSocketRequest.class);
+    return type + request.getReceiverId();
+  }
+
+  private String typedStream(DataBuffer payload) throws Exception {
+    SocketFrame frame = frameReader.read(payload.asInputStream());
+    MessageSocketRequest request = (MessageSocketRequest) frame.data();
+    return frame.type() + request.getReceiverId();
+  }
+
+  private void report(String strategy, long seconds, Decoder decoder) throws Exception {
+    run(decoder, 1);
+
+    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+    long started = System.nanoTime();
+    long frames = run(decoder, seconds);
+    double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+    double bytesPerFrame = (double) (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / frames;
+
+    System.out.printf("%-14s %-14.0f %-16.0f%n", strategy, frames / elapsedSeconds, bytesPerFrame);
+  }
+
+  private long run(Decoder decoder, long seconds) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    long frames = 0;
+    while (System.nanoTime() < deadline) {
+      sink += decoder.decode(payload()).length();
+      frames++;
+    }
+    return frames;
+  }
+
+  private DataBuffer payload() {
+    return DefaultDataBufferFactory.sharedInstance.wrap(FRAME);
+  }
+
+  @FunctionalInterface
+  private interface Decoder {
+    String decode(DataBuffer payload) throws Exception;
+  }
+}
@@ -0,0 +1,132 @@
+package com.arenaaxis.messageservice.benchmark;
+
+import com.arenaaxis.messageservice.config.JacksonConfig;
+import com.arenaaxis.messageservice.model.Message;
+import com.arenaaxis.messageservice.model.Participant;
+import com.arenaaxis.messageservice.websocket.codec.WireCodecs;
+import com.arenaaxis.messageservice.websocket.codec.WireFormat;
+import com.arenaaxis.messageservice.websocket.dto.response.SeenMessageResponse;
+import com.arenaaxis.messageservice.websocket.dto.response.SendMessageResponse;
+import com.arenaaxis.messageservice.websocket.dto.response.WebSocketResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// mvn test -Dtest=WireFormatBenchmark -Dbenchmark=true [-Dbenchmark.seconds=2]
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WireFormatBenchmark {
+  private final WireCodecs wireCodecs = new WireCodecs(new JacksonConfig().objectMapper());
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+  private long sink;
+
+  @Test
+  void sizeAndCpuPerFormat() throws Exception {
+    long seconds = Long.getLong("benchmark.seconds", 2);
+    Map<String, WebSocketResponse<?>> payloads = Map.of(
+      "message.receive", sendResponse(),
+      "message.received", seenResponse()
+    );
+
+    System.out.printf("%-18s %-8s %-8s %-14s %-14s %-14s%n",
+      "payload", "format", "bytes", "deflated", "encode cpu ns", "decode cpu ns");
+    for (Map.Entry<String, WebSocketResponse<?>> payload : payloads.entrySet()) {
+      for (WireFormat format : WireFormat.values()) {
+        report(payload.getKey(), format, payload.getValue(), seconds);
+      }
+    }
+  }
+
+  private void report(String name, WireFormat format, WebSocketResponse<?> response, long seconds) throws Exception {
+    ObjectMapper mapper = wireCodecs.mapper(format);
+    byte[] encoded = wireCodecs.write(format, response);
+    assertEquals(
+      wireCodecs.mapper(WireFormat.JSON).readTree(wireCodecs.write(WireFormat.JSON, response)),
+      mapper.readTree(encoded));
+
+    double encodeNanos = cpuNanosPerOp(seconds, () -> sink += wireCodecs.write(format, response).length);
+    double decodeNanos = cpuNanosPerOp(seconds, () -> sink += mapper.readTree(encoded).size());
+
+    System.out.printf("%-18s %-8s %-8d %-14d %-14.0f %-14.0f%n",
+      name, format, encoded.length, deflated(encoded), encodeNanos, decodeNanos);
+  }
+
+  private double cpuNanosPerOp(long seconds, Operation operation) throws Exception {
+    run(operation, 1);
+
+    long cpuBefore = threads.getCurrentThreadCpuTime();
+    long ops = run(operation, seconds);
+    return (double) (threads.getCurrentThreadCpuTime() - cpuBefore) / ops;
+  }
+
+  private long run(Operation operation, long seconds) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    long ops = 0;
+    while (System.nanoTime() < deadline) {
+      operation.run();
+      ops++;
+    }
+    return ops;
+  }
+
+  private int deflated(byte[] payload) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (DeflaterOutputStream deflater = new DeflaterOutputStream(output, new Deflater(Deflater.DEFAULT_COMPRESSION, true))) {
+      deflater.write(payload);
+    }
+    return output.size();
+  }
+
+  private Participant participant() {
+    return Participant.builder()
+      .id("9f1c2d3e-4b5a-6c7d-8e9f-0a1b2c3d4e5f")
+      .name("Nguyễn Văn An")
+      .email("an.nguyen@arenaaxis.com")
+      .avatarUrl("https://res.cloudinary.com/arenaaxis/image/upload/v1/avatars/an.jpg")
+      .build();
+  }
+
+  private WebSocketResponse<SendMessageResponse> sendResponse() {
+    return WebSocketResponse.<SendMessageResponse>builder()
+      .type("message.receive")
+      .data(SendMessageResponse.builder()
+        .sender(participant())
+        .content("Tối nay 19h sân số 3 nhé, mọi người nhớ mang giày đinh dăm và nước uống.")
+        .conversationId("c1a2b3c4-d5e6-f7a8-b9c0-d1e2f3a4b5c6")
+        .status(Message.MessageStatus.RECEIVED)
+        .timestamp(LocalDateTime.now())
+        .build())
+      .build();
+  }
+
+  private WebSocketResponse<SeenMessageResponse> seenResponse() {
+    return WebSocketResponse.<SeenMessageResponse>builder()
+      .type("message.received")
+      .data(SeenMessageResponse.builder()
+        .reader(participant())
+        .messageId("6710f3c2a1b2c3d4e5f60718")
+        .conversationId("c1a2b3c4-d5e6-f7a8-b9c0-d1e2f3a4b5c6")
+        .status(Message.MessageStatus.SEEN)
+        .readAt(LocalDateTime.now())
+        .build())
+      .build();
+  }
+
+  @FunctionalInterface
+  private interface Operation {
+    void run() throws Exception;
+  }
+}
@@ -0,0 +1,79 @@
+package com.arenaaxis.messageservice.repository.custom;
+
+import com.arenaaxis.messageservice.model.Message;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageRepositoryCustomImplTest {
+  private static final LocalDateTime SAME_INSTANT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+  @Mock
+  ReactiveMongoTemplate reactiveMongoTemplate;
+
+  MessageRepositoryCustomImpl repository;
+  Message cursor;
+
+  @BeforeEach
+  void setup() {
+    repository = new MessageRepositoryCustomImpl(reactiveMongoTemplate);
+    cursor = message("m-5");
+  }
+
+  @Test
+  void findBefore_breaksTimestampTiesOnId() {
+    when(reactiveMongoTemplate.find(any(Query.class), eq(Message.class))).thenReturn(Flux.empty());
+
+    repository.findBefore(cursor, 20).collectList().block();
+
+    Query query = capturedQuery();
+    assertEquals(new Document("conversationId", "conversation").append("$or", List.of(
+      new Document("timestamp", new Document("$lt", SAME_INSTANT)),
+      new Document("timestamp", SAME_INSTANT).append("_id", new Document("$lt", "m-5"))
+    )), query.getQueryObject());
+    assertEquals(new Document("timestamp", -1).append("_id", -1), query.getSortObject());
+    assertEquals(20, query.getLimit());
+  }
+
+  @Test
+  void findAfter_breaksTiesOnId_andReturnsNewestFirst() {
+    when(reactiveMongoTemplate.find(any(Query.class), eq(Message.class)))
+      .thenReturn(Flux.just(message("m-6"), message("m-7")));
+
+    List<Message> page = repository.findAfter(cursor, 2).collectList().block();
+
+    Query query = capturedQuery();
+    assertEquals(new Document("conversationId", "conversation").append("$or", List.of(
+      new Document("timestamp", new Document("$gt", SAME_INSTANT)),
+      new Document("timestamp", SAME_INSTANT).append("_id", new Document("$gt", "m-5"))
+    )), query.getQueryObject());
+    assertEquals(new Document("timestamp", 1).append("_id", 1), query.getSortObject());
+    assertEquals(List.of("m-7", "m-6"), page.stream().map(Message::getId).toList());
+  }
+
+  private Query capturedQuery() {
+    ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+    verify(reactiveMongoTemplate).find(captor.capture(), eq(Message.class));
+    return captor.getValue();
+  }
+
+  private static Message message(String id) {
+    return Message.builder().id(id).conversationId("conversation").timestamp(SAME_INSTANT).build();
+  }
+}
@@ -0,0 +1,96 @@
+package com.arenaaxis.messageservice.service.impl;
+
+import com.arenaaxis.messageservice.cache.ConversationCache;
+import com.arenaaxis.messageservice.model.Conversation;
+import com.arenaaxis.messageservice.model.Message;
+import com.arenaaxis.messageservice.repository.ConversationRepository;
+import com.arenaaxis.messageservice.repository.MessageRepository;
+import com.arenaaxis.messageservice.repository.custom.ConversationRepositoryCustomImpl;
+import com.arenaaxis.messageservice.repository.custom.MessageRepositoryCustomImpl;
+import com.arenaaxis.messageservice.service.ParticipantService;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageServiceImplTest {
+  private static final LocalDateTime SENT_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+  @Mock
+  ParticipantService participantService;
+  @Mock
+  ConversationCache conversationCache;
+  @Mock
+  ConversationRepository conversationRepository;
+  @Mock
+  ConversationRepositoryCustomImpl conversationRepositoryCustom;
+  @Mock
+  MessageRepository messageRepository;
+  @Mock
+  MessageRepositoryCustomImpl messageRepositoryCustom;
+  @Mock
+  ReactiveMongoTemplate mongoTemplate;
+
+  SimpleMeterRegistry meterRegistry;
+  MessageServiceImpl messageService;
+  Message message;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    messageService = new MessageServiceImpl(participantService, conversationCache, conversationRepository,
+      conversationRepositoryCustom, messageRepository, messageRepositoryCustom, mongoTemplate, meterRegistry);
+    message = Message.builder().id("m-1").senderId("sender").content("hi").timestamp(SENT_AT).build();
+
+    when(conversationCache.isKnownParticipant(any())).thenReturn(true);
+    when(conversationCache.conversationId("sender", "receiver")).thenReturn("conversation");
+    when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+  }
+
+  @Test
+  void createMessage_onlyMovesLastMessageForward() {
+    when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(Conversation.class)))
+      .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+
+    messageService.createMessage("receiver", message).block();
+
+    ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).updateFirst(query.capture(), any(UpdateDefinition.class), eq(Conversation.class));
+    assertEquals(new Document("_id", "conversation").append("$or", List.of(
+      new Document("lastMessageAt", null),
+      new Document("lastMessageAt", new Document("$lt", SENT_AT))
+    )), query.getValue().getQueryObject());
+    assertEquals(1, meterRegistry.get("message.send.stage").tag("stage", "conversation-update").timer().count());
+  }
+
+  @Test
+  void createMessage_keepsNewerLastMessage_withoutReassigningTheConversation() {
+    when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(Conversation.class)))
+      .thenReturn(Mono.just(UpdateResult.acknowledged(0, 0L, null)));
+    when(mongoTemplate.exists(any(Query.class), eq(Conversation.class))).thenReturn(Mono.just(true));
+
+    Message saved = messageService.createMessage("receiver", message).block();
+
+    assertEquals("conversation", saved.getConversationId());
+    verify(conversationCache, never()).evictConversation(any(), any());
+    verify(messageRepository, never()).save(any());
+  }
+}
@@ -0,0 +1,40 @@
+package com.arenaaxis.messageservice.websocket.mux;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiplexFrameTest {
+
+  @Test
+  void encodeAndParse_roundTripsPayloadContainingNewlines() {
+    String text = MultiplexFrame.encode(MultiplexFrame.DATA, "session-1", "{\"a\":1}\n{\"b\":2}");
+
+    MultiplexFrame frame = MultiplexFrame.parse(text).orElseThrow();
+
+    assertEquals(MultiplexFrame.DATA, frame.op());
+    assertEquals("session-1", frame.sessionId());
+    assertEquals("{\"a\":1}\n{\"b\":2}", frame.payload());
+  }
+
+  @Test
+  void parse_acceptsControlFramesWithoutPayload() {
+    MultiplexFrame open = MultiplexFrame.parse(MultiplexFrame.encode(MultiplexFrame.OPEN, "s", "")).orElseThrow();
+    MultiplexFrame close = MultiplexFrame.parse("C:s").orElseThrow();
+
+    assertEquals(MultiplexFrame.OPEN, open.op());
+    assertEquals("", open.payload());
+    assertEquals(MultiplexFrame.CLOSE, close.op());
+    assertEquals("s", close.sessionId());
+  }
+
+  @Test
+  void parse_rejectsMalformedFrames() {
+    assertTrue(MultiplexFrame.parse(null).isEmpty());
+    assertTrue(MultiplexFrame.parse("").isEmpty());
+    assertTrue(MultiplexFrame.parse("D").isEmpty());
+    assertTrue(MultiplexFrame.parse("D:").isEmpty());
+    assertTrue(MultiplexFrame.parse("D:\npayload").isEmpty());
+    assertTrue(MultiplexFrame.parse("Dx session\npayload").isEmpty());
+  }
+}
@@ -0,0 +1,144 @@
+package com.arenaaxis.messageservice.websocket.mux;
+
+import com.arenaaxis.messageservice.websocket.MessageWebsocketHandler;
+import com.arenaaxis.messageservice.websocket.codec.WireFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MultiplexedWebsocketHandlerTest {
+  private static final int INBOUND_CAPACITY = 4;
+
+  @Mock
+  MessageWebsocketHandler messageWebsocketHandler;
+
+  @Mock
+  WebSocketSession transport;
+
+  SimpleMeterRegistry meterRegistry;
+  MultiplexedWebsocketHandler handler;
+  Sinks.Many<String> received;
+  List<String> sent;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    handler = new MultiplexedWebsocketHandler(messageWebsocketHandler, meterRegistry, INBOUND_CAPACITY);
+    received = Sinks.many().unicast().onBackpressureBuffer();
+    sent = new CopyOnWriteArrayList<>();
+
+    DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    lenient().when(transport.getId()).thenReturn("transport");
+    lenient().when(transport.isOpen()).thenReturn(true);
+    lenient().when(transport.bufferFactory()).thenReturn(bufferFactory);
+    lenient().when(transport.receive()).thenReturn(received.asFlux().map(text -> new WebSocketMessage(
+      WebSocketMessage.Type.TEXT, bufferFactory.wrap(text.getBytes(StandardCharsets.UTF_8)))));
+    lenient().when(transport.textMessage(any())).thenAnswer(invocation -> new WebSocketMessage(
+      WebSocketMessage.Type.TEXT, bufferFactory.wrap(invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8))));
+    lenient().when(transport.send(any())).thenAnswer(invocation -> Flux.from(invocation.<Publisher<WebSocketMessage>>getArgument(0))
+      .doOnNext(message -> sent.add(message.getPayloadAsText()))
+      .then());
+  }
+
+  @Test
+  void openDataClose_runsVirtualSessionLifecycle() {
+    when(messageWebsocketHandler.handle(any())).thenAnswer(invocation -> {
+      WebSocketSession session = invocation.getArgument(0);
+      return session.send(session.receive()
+        .map(message -> session.textMessage("echo:" + message.getPayloadAsText())));
+    });
+    Disposable transportRun = handler.handle(transport).subscribe();
+
+    received.tryEmitNext(MultiplexFrame.encode(MultiplexFrame.OPEN, "a", ""));
+    assertEquals(1, sessions());
+
+    received.tryEmitNext(MultiplexFrame.encode(MultiplexFrame.DATA, "a", "hello"));
+    assertEquals(List.of(MultiplexFrame.encode(MultiplexFrame.DATA, "a", "echo:hello")), sent);
+
+    received.tryEmitNext(MultiplexFrame.encode(MultiplexFrame.CLOSE, "a", ""));
+    assertEquals(0, sessions());
+
+    received.tryEmitNext(MultiplexFrame.encode(MultiplexFrame.DATA, "a", "late"));
+    assertEquals(1, sent.size());
+
+    received.tryEmitComplete();
+    assertTrue(transportRun.isDisposed());
+    assertEquals(0, meterRegistry.get("websocket.mux.transports").gauge().value());
+  }
+
+  @Test
+  void malformedFrames_areDroppedWithoutClosingTheTransport() {
+    when(messageWebsocketHandler.handle(any())).thenReturn(Mono.never());
+    Disposable transportRun = handler.handle(transport).subscribe();
+
+    received.tryEmitNext("");
+    received.tryEmitNext("D");
+    received.tryEmitNext("D:\npayload");
+    received.tryEmitNext(MultiplexFrame.encode(MultiplexFrame.OPEN, "b", ""));
+
+    assertFalse(transportRun.isDisposed());
+    assertEquals(1, sessions());
+    verify(messageWebsocketHandler, times(1)).handle(any());
+    transportRun.dispose();
+  }
+
+  @Test
+  void inboundOverflow_closesOnlyTheSlowVirtualSession() {
+    when(messageWebsocketHandler.handle(any())).thenReturn(Mono.never());
+    Disposable transportRun = handler.handle(transport).subscribe();
+
+    received.tryEmitNext(MultiplexFrame.encode(MultiplexFrame.OPEN, "slow", ""));
+    for (int i = 0; i <= INBOUND_CAPACITY; i++) {
+      received.tryEmitNext(MultiplexFrame.encode(MultiplexFrame.DATA, "slow", "message-" + i));
+    }
+
+    assertEquals(List.of(MultiplexFrame.encode(MultiplexFrame.CLOSE, "slow", "")), sent);
+    assertFalse(transportRun.isDisposed());
+    transportRun.dispose();
+  }
+
+  @Test
+  void virtualSessions_negotiateJson_evenWhenTheTransportNegotiatedBinary() {
+    when(transport.getHandshakeInfo()).thenReturn(new HandshakeInfo(
+      URI.create("ws://message-service/ws/mux"), new HttpHeaders(), Mono.empty(), WireFormat.CBOR.subProtocol()));
+    AtomicReference<WireFormat> negotiated = new AtomicReference<>();
+    when(messageWebsocketHandler.handle(any())).thenAnswer(invocation -> {
+      negotiated.set(WireFormat.negotiated(invocation.getArgument(0)));
+      return Mono.never();
+    });
+    Disposable transportRun = handler.handle(transport).subscribe();
+
+    received.tryEmitNext(MultiplexFrame.encode(MultiplexFrame.OPEN, "c", ""));
+
+    assertEquals(WireFormat.JSON, negotiated.get());
+    transportRun.dispose();
+  }
+
+  private double sessions() {
+    return meterRegistry.get("websocket.mux.sessions").gauge().value();
+  }
+}
@@ -1,51 +1,47 @@
 package com.arenaaxis.userservice.config;
 
-import com.arenaaxis.userservice.dto.request.IntrospectRequest;
-import com.arenaaxis.userservice.service.AuthenticationService;
-import com.nimbusds.jose.JOSEException;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import com.arenaaxis.userservice.exception.AppException;
+import com.arenaaxis.userservice.security.JwtTokenVerifier;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.spec.SecretKeySpec;
 import java.text.ParseException;
-import java.util.Objects;
+import java.util.Collections;
+import java.util.Map;
 
 @Component
 public class CustomJwtDecoder implements JwtDecoder {
+  private final JwtTokenVerifier jwtTokenVerifier;
 
-  @Value("${jwt.signer_key}")
-  protected String SIGNER_KEY;
+  private final Converter<Map<String, Object>, Map<String, Object>> claimSetConverter =
+    MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
 
-  private final AuthenticationService authenticationService;
-
-  private NimbusJwtDecoder nimbusJwtDecoder = null;
-
-  public CustomJwtDecoder(AuthenticationService authenticationService) {
-    this.authenticationService = authenticationService;
+  public CustomJwtDecoder(JwtTokenVerifier jwtTokenVerifier) {
+    this.jwtTokenVerifier = jwtTokenVerifier;
   }
 
   @Override
   public Jwt decode(String token) throws JwtException {
+    SignedJWT signedJWT;
     try {
-      var response = authenticationService.introspect(
-        IntrospectRequest.builder().token(token).build());
-
-      if (!response.isValid()) throw new JwtException("Token invalid");
-    } catch (JOSEException | ParseException e) {
-      throw new JwtException(e.getMessage());
+      signedJWT = jwtTokenVerifier.verify(token, false);
+    } catch (AppException e) {
+      throw new JwtException("Token invalid");
     }
 
-    if (Objects.isNull(nimbusJwtDecoder)) {
-      SecretKeySpec spec = new SecretKeySpec(SIGNER_KEY.getBytes(), "HS512");
-      nimbusJwtDecoder = NimbusJwtDecoder.withSecretKey(spec)
-        .macAlgorithm(MacAlgorithm.HS512)
+    try {
+      Map<String, Object> claims = claimSetConverter.convert(signedJWT.getJWTClaimsSet().getClaims());
+      return Jwt.withTokenValue(token)
+        .headers(headers -> headers.putAll(signedJWT.getHeader().toJSONObject()))
+        .claims(jwtClaims -> jwtClaims.putAll(claims))
         .build();
+    } catch (ParseException e) {
+      throw new JwtException(e.getMessage());
     }
-    return nimbusJwtDecoder.decode(token);
   }
 }
@@ -1,14 +1,56 @@
 package com.arenaaxis.userservice.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class PasswordConfig {
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(10);
+  public PasswordEncoder passwordEncoder(@Value("${password.bcrypt_strength}") int strength) {
+    return new BCryptPasswordEncoder(strength);
+  }
+
+  @Bean(name = "passwordHashingExecutor", destroyMethod = "shutdown")
+  public ExecutorService passwordHashingExecutor(
+    @Value("${password.hashing.threads}") int threads,
+    @Value("${password.hashing.queue_capacity}") int queueCapacity,
+    MeterRegistry meterRegistry
+  ) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+      poolSize, poolSize,
+      0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(queueCapacity),
+      new CustomizableThreadFactory("password-hashing-"),
+      new ThreadPoolExecutor.AbortPolicy());
+
+    return ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+  }
+
+  // Unbounded queue: inflow is already capped by the hashing pool and its queue.
+  @Bean(name = "passwordHashingCompletionExecutor", destroyMethod = "shutdown")
+  public ExecutorService passwordHashingCompletionExecutor(
+    @Value("${password.hashing.completion_threads}") int threads,
+    MeterRegistry meterRegistry
+  ) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+      threads, threads,
+      0L, TimeUnit.MILLISECONDS,
+      new LinkedBlockingQueue<>(),
+      new CustomizableThreadFactory("password-hashing-completion-"));
+
+    return ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing.completion");
   }
 }
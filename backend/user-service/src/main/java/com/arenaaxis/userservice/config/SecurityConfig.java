@@ -1,5 +1,8 @@
 package com.arenaaxis.userservice.config;
 
+import com.arenaaxis.userservice.security.InternalIdentityFilter;
+import com.arenaaxis.userservice.security.InternalIdentityVerifier;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +15,7 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
 import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -61,6 +65,8 @@ public class SecurityConfig {
       "/favourites",
       "/favourites/**"));
 
+  private static final String INTERNAL_ENDPOINTS = "/internal/**";
+
   CustomJwtDecoder customJwtDecoder;
 
   public SecurityConfig(CustomJwtDecoder customJwtDecoder) {
@@ -68,11 +74,15 @@ public class SecurityConfig {
   }
 
   @Bean
-  public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+  public SecurityFilterChain securityFilterChain(
+    HttpSecurity http, InternalIdentityVerifier internalIdentityVerifier) throws Exception {
     http
       .csrf(AbstractHttpConfigurer::disable)
+      .addFilterBefore(new InternalIdentityFilter(internalIdentityVerifier), BearerTokenAuthenticationFilter.class)
       .cors(cors -> cors.configurationSource(corsConfigurationSource()))
       .authorizeHttpRequests(auth -> {
+        auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+        auth.requestMatchers(INTERNAL_ENDPOINTS).hasAuthority(InternalIdentityVerifier.SERVICE_ROLE);
         PUBLIC_ENDPOINTS
           .forEach((method, paths) -> paths.forEach(path -> auth.requestMatchers(method, path).permitAll()));
         auth.anyRequest().permitAll();
@@ -118,6 +128,8 @@ public class SecurityConfig {
     DefaultBearerTokenResolver resolver = new DefaultBearerTokenResolver();
     resolver.setAllowUriQueryParameter(false);
     resolver.setAllowFormEncodedBodyParameter(false);
-    return resolver;
+    return request -> request.getAttribute(InternalIdentityFilter.AUTHENTICATED_ATTRIBUTE) != null
+      ? null
+      : resolver.resolve(request);
   }
 }
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.text.ParseException;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/auth")
@@ -36,23 +37,23 @@ public class AuthenticationController {
   }
 
   @PostMapping("/user")
-  public ResponseEntity<AuthenticationResponse> loginUser(@RequestBody AuthenticationRequest request) {
-    return ResponseEntity.ok(authenticationService.authenticate(request, Role.USER));
+  public CompletableFuture<ResponseEntity<AuthenticationResponse>> loginUser(@RequestBody AuthenticationRequest request) {
+    return authenticationService.authenticate(request, Role.USER).thenApply(ResponseEntity::ok);
   }
 
   @PostMapping("/client")
-  public ResponseEntity<AuthenticationResponse> loginOwner(@RequestBody AuthenticationRequest request) {
-    return ResponseEntity.ok(authenticationService.authenticate(request, Role.CLIENT));
+  public CompletableFuture<ResponseEntity<AuthenticationResponse>> loginOwner(@RequestBody AuthenticationRequest request) {
+    return authenticationService.authenticate(request, Role.CLIENT).thenApply(ResponseEntity::ok);
   }
 
   @PostMapping("/admin")
-  public ResponseEntity<AuthenticationResponse> loginAdmin(@RequestBody AuthenticationRequest request) {
-    return ResponseEntity.ok(authenticationService.authenticate(request, Role.ADMIN));
+  public CompletableFuture<ResponseEntity<AuthenticationResponse>> loginAdmin(@RequestBody AuthenticationRequest request) {
+    return authenticationService.authenticate(request, Role.ADMIN).thenApply(ResponseEntity::ok);
   }
 
   @PostMapping("/login")
-  public ResponseEntity<AuthenticationResponse> login(@RequestBody @Validated AuthenticationRequest request) {
-    return ResponseEntity.ok(authenticationService.authenticate(request, null));
+  public CompletableFuture<ResponseEntity<AuthenticationResponse>> login(@RequestBody @Validated AuthenticationRequest request) {
+    return authenticationService.authenticate(request, null).thenApply(ResponseEntity::ok);
   }
 
   @PostMapping("/refresh")
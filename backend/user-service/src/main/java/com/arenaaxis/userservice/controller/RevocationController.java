@@ -0,0 +1,32 @@
+package com.arenaaxis.userservice.controller;
+
+import com.arenaaxis.userservice.dto.response.RevocationSnapshotResponse;
+import com.arenaaxis.userservice.service.RevocationFeedService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/internal/revocations")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RevocationController {
+  RevocationFeedService revocationFeedService;
+
+  @GetMapping
+  public ResponseEntity<RevocationSnapshotResponse> snapshot() {
+    return ResponseEntity.ok(revocationFeedService.snapshot());
+  }
+
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter stream(@RequestParam(value = "cursor", defaultValue = "0") long cursor) {
+    return revocationFeedService.subscribe(cursor);
+  }
+}
@@ -1,6 +1,7 @@
 package com.arenaaxis.userservice.controller;
 
 import com.arenaaxis.userservice.dto.request.FavouriteRequest;
+import com.arenaaxis.userservice.dto.response.CheckFavouriteResponse;
 import com.arenaaxis.userservice.dto.response.StoreClientDetailResponse;
 import com.arenaaxis.userservice.dto.response.StoreSearchItemResponse;
 import com.arenaaxis.userservice.entity.User;
@@ -28,6 +29,14 @@ public class StoreFavouriteController {
     return ResponseEntity.ok(storeFavouriteService.getFavourites(current));
   }
 
+  @GetMapping("/store/{storeId}")
+  public ResponseEntity<CheckFavouriteResponse> checkFavourite(@PathVariable String storeId) {
+    User current = currentUserService.getCurrentUser();
+    return ResponseEntity.ok(CheckFavouriteResponse.builder()
+      .favourite(storeFavouriteService.isFavourite(storeId, current))
+      .build());
+  }
+
   @PostMapping
   public ResponseEntity<StoreClientDetailResponse> create(@RequestBody FavouriteRequest request) {
     User current = currentUserService.getCurrentUser();
@@ -2,7 +2,6 @@ package com.arenaaxis.userservice.controller;
 
 import com.arenaaxis.userservice.dto.request.UserCreateRequest;
 import com.arenaaxis.userservice.dto.response.UserResponse;
-import com.arenaaxis.userservice.mapper.UserMapper;
 import com.arenaaxis.userservice.service.CurrentUserService;
 import com.arenaaxis.userservice.service.UserService;
 import lombok.AccessLevel;
@@ -21,7 +20,6 @@ import java.util.List;
 public class UserController {
   UserService userService;
   CurrentUserService currentUserService;
-  UserMapper userMapper;
 
   @PostMapping
   public ResponseEntity<UserResponse> create(@RequestBody @Validated UserCreateRequest request) {
@@ -35,7 +33,7 @@ public class UserController {
 
   @GetMapping("/myself")
   public ResponseEntity<UserResponse> showMyProfile() {
-    return ResponseEntity.ok(userMapper.toUserResponse(currentUserService.getCurrentUser()));
+    return ResponseEntity.ok(userService.getProfile(currentUserService.getCurrentUser()));
   }
 
   @GetMapping
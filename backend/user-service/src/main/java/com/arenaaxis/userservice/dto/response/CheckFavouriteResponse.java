@@ -0,0 +1,14 @@
+package com.arenaaxis.userservice.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CheckFavouriteResponse {
+  boolean favourite;
+}
@@ -0,0 +1,17 @@
+package com.arenaaxis.userservice.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RevocationSnapshotResponse {
+  long cursor;
+  List<RevokedTokenResponse> tokens;
+}
@@ -0,0 +1,16 @@
+package com.arenaaxis.userservice.dto.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RevokedTokenResponse {
+  String jti;
+  long expiresAt;
+  long cursor;
+}
@@ -2,8 +2,7 @@ package com.arenaaxis.userservice.entity;
 
 import java.util.Date;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 
 import lombok.*;
 import lombok.experimental.FieldDefaults;
@@ -15,8 +14,34 @@ import lombok.experimental.FieldDefaults;
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Entity
+@Table(
+  indexes = {
+    @Index(name = "index_revoked_at", columnList = "revoked_at"),
+    @Index(name = "index_expiry_bucket", columnList = "expiry_bucket")
+  }
+)
 public class InvalidatedToken {
+  public static final long EXPIRY_BUCKET_MILLIS = 3_600_000L;
+
   @Id
   String id;
   Date expiryTime;
-}
\ No newline at end of file
+
+  @Column(name = "expiry_bucket")
+  Long expiryBucket;
+
+  @Builder.Default
+  @Column(name = "revoked_at")
+  Date revokedAt = new Date();
+
+  @PrePersist
+  public void onCreate() {
+    if (expiryBucket == null && expiryTime != null) {
+      this.expiryBucket = bucketOf(expiryTime);
+    }
+  }
+
+  public static long bucketOf(Date time) {
+    return time.getTime() / EXPIRY_BUCKET_MILLIS;
+  }
+}
@@ -28,6 +28,7 @@ public enum ErrorCode {
   NOT_BLANK_EMAIL(4019, "Email can not be blank", HttpStatus.BAD_REQUEST),
   NOT_BLANK_NAME(4026, "Name can not be blank", HttpStatus.BAD_REQUEST),
   MIN_PASSWORD_MSG(4027, "Password contains at least 8 characters", HttpStatus.BAD_REQUEST),
+  TOO_MANY_LOGIN_REQUESTS(4028, "Too many login requests, please try again later", HttpStatus.TOO_MANY_REQUESTS),
   ACCOUNT_NOT_ACTIVATED(4020, "Account is locked", HttpStatus.FORBIDDEN),
   NOT_BLANK_STORE_NAME(4021, "Name of store can not be blank", HttpStatus.BAD_REQUEST),
   NOT_BLANK_STORE_ADDRESS(4022, "Address of store can not be blank", HttpStatus.BAD_REQUEST),
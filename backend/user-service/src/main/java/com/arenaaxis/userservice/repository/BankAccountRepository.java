@@ -9,4 +9,6 @@ import java.util.Optional;
 @Repository
 public interface BankAccountRepository extends JpaRepository<BankAccount, String> {
   Optional<BankAccount> findByNumberAndBank_Id(String number, String bankId);
+  Optional<BankAccount> findByUser_Id(String userId);
+  boolean existsByUser_Id(String userId);
 }
@@ -2,8 +2,31 @@ package com.arenaaxis.userservice.repository;
 
 import com.arenaaxis.userservice.entity.InvalidatedToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
 
 @Repository
 public interface InvalidatedTokenRepository extends JpaRepository<InvalidatedToken, String> {
+  List<InvalidatedToken> findByExpiryTimeAfter(Date time);
+  List<InvalidatedToken> findByRevokedAtAfterAndExpiryTimeAfterOrderByRevokedAtAsc(Date cursor, Date time);
+
+  @Transactional
+  @Modifying
+  @Query(
+    value = "DELETE FROM invalidated_token WHERE expiry_bucket < :bucket LIMIT :batchSize",
+    nativeQuery = true)
+  int deleteExpiredBuckets(@Param("bucket") long bucket, @Param("batchSize") int batchSize);
+
+  @Transactional
+  @Modifying
+  @Query(
+    value = "DELETE FROM invalidated_token WHERE expiry_bucket IS NULL AND expiry_time < :time LIMIT :batchSize",
+    nativeQuery = true)
+  int deleteExpiredUnbucketed(@Param("time") Date time, @Param("batchSize") int batchSize);
 }
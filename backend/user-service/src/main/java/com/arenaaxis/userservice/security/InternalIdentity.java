@@ -0,0 +1,19 @@
+package com.arenaaxis.userservice.security;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class InternalIdentity {
+  String uid;
+  String email;
+  String role;
+  String jti;
+  long exp;
+  long iat;
+}
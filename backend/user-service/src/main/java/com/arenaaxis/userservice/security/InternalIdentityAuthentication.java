@@ -0,0 +1,35 @@
+package com.arenaaxis.userservice.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+
+public class InternalIdentityAuthentication extends AbstractAuthenticationToken {
+  private final InternalIdentity identity;
+
+  public InternalIdentityAuthentication(InternalIdentity identity) {
+    super(identity.getRole() == null
+      ? null
+      : Arrays.stream(identity.getRole().split(" "))
+        .map(SimpleGrantedAuthority::new)
+        .toList());
+    this.identity = identity;
+    setAuthenticated(true);
+  }
+
+  @Override
+  public Object getCredentials() {
+    return null;
+  }
+
+  @Override
+  public InternalIdentity getPrincipal() {
+    return identity;
+  }
+
+  @Override
+  public String getName() {
+    return identity.getEmail();
+  }
+}
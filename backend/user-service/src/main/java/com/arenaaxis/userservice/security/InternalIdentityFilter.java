@@ -0,0 +1,36 @@
+package com.arenaaxis.userservice.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+public class InternalIdentityFilter extends OncePerRequestFilter {
+  public static final String AUTHENTICATED_ATTRIBUTE = InternalIdentityFilter.class.getName() + ".AUTHENTICATED";
+
+  private final InternalIdentityVerifier verifier;
+
+  public InternalIdentityFilter(InternalIdentityVerifier verifier) {
+    this.verifier = verifier;
+  }
+
+  @Override
+  protected void doFilterInternal(
+    HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+    throws ServletException, IOException {
+    verifier.verify(request.getHeader(InternalIdentityVerifier.HEADER))
+      .ifPresent(identity -> {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new InternalIdentityAuthentication(identity));
+        SecurityContextHolder.setContext(context);
+        request.setAttribute(AUTHENTICATED_ATTRIBUTE, Boolean.TRUE);
+      });
+
+    filterChain.doFilter(request, response);
+  }
+}
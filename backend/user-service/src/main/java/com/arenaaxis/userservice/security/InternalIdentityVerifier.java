@@ -0,0 +1,81 @@
+package com.arenaaxis.userservice.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class InternalIdentityVerifier {
+  public static final String HEADER = "X-Internal-Identity";
+  public static final String SERVICE_ROLE = "SERVICE";
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final int MIN_SECRET_BYTES = 32;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final boolean enabled;
+  private final long maxAge;
+  private final ThreadLocal<Mac> mac;
+
+  public InternalIdentityVerifier(
+    @Value("${internal_identity.enabled}") boolean enabled,
+    @Value("${internal_identity.secret}") String secret,
+    @Value("${internal_identity.max_age}") long maxAge
+  ) {
+    this.enabled = enabled;
+    this.maxAge = maxAge;
+    byte[] secretBytes = secret == null ? new byte[0] : secret.getBytes(StandardCharsets.UTF_8);
+    if (secretBytes.length < MIN_SECRET_BYTES) {
+      throw new IllegalStateException("internal_identity.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+    }
+    SecretKeySpec key = new SecretKeySpec(secretBytes, ALGORITHM);
+    this.mac = ThreadLocal.withInitial(() -> {
+      try {
+        Mac instance = Mac.getInstance(ALGORITHM);
+        instance.init(key);
+        return instance;
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  public Optional<InternalIdentity> verify(String header) {
+    if (header == null) return Optional.empty();
+
+    int separator = header.indexOf('.');
+    if (separator <= 0) return Optional.empty();
+
+    try {
+      Base64.Decoder decoder = Base64.getUrlDecoder();
+      byte[] payload = decoder.decode(header.substring(0, separator));
+      byte[] signature = decoder.decode(header.substring(separator + 1));
+      if (!MessageDigest.isEqual(mac.get().doFinal(payload), signature)) {
+        log.warn("Rejected internal identity with invalid signature");
+        return Optional.empty();
+      }
+
+      InternalIdentity identity = objectMapper.readValue(payload, InternalIdentity.class);
+      long now = System.currentTimeMillis();
+      if (identity.getExp() < now || Math.abs(now - identity.getIat()) > maxAge) {
+        return Optional.empty();
+      }
+      if (!enabled && !SERVICE_ROLE.equals(identity.getRole())) {
+        return Optional.empty();
+      }
+      return Optional.of(identity);
+    } catch (Exception e) {
+      log.warn("Rejected malformed internal identity: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.arenaaxis.userservice.security;
+
+import com.arenaaxis.userservice.exception.AppException;
+import com.arenaaxis.userservice.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class JwtTokenVerifier {
+  RevokedTokenCache revokedTokenCache;
+
+  @NonFinal
+  @Value("${jwt.signer_key}")
+  protected String SIGNER_KEY;
+
+  @NonFinal
+  @Value("${jwt.token_refreshable_duration}")
+  protected long REFRESHABLE_DURATION;
+
+  @NonFinal
+  @Value("${jwt.revocation.negative_cache_size}")
+  protected int NEGATIVE_CACHE_SIZE;
+
+  @NonFinal
+  JWSVerifier verifier;
+
+  @NonFinal
+  Cache<String, Boolean> rejectedTokens;
+
+  @PostConstruct
+  void init() throws JOSEException {
+    verifier = new MACVerifier(SIGNER_KEY);
+    rejectedTokens = Caffeine.newBuilder()
+      .maximumSize(NEGATIVE_CACHE_SIZE)
+      .build();
+  }
+
+  public SignedJWT verify(String token, boolean isRefresh) {
+    if (!isRefresh && rejectedTokens.getIfPresent(fingerprint(token)) != null) {
+      throw new AppException(ErrorCode.UNAUTHENTICATED);
+    }
+
+    try {
+      SignedJWT signedJWT = SignedJWT.parse(token);
+      JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
+      Date expiryTime = (isRefresh)
+        ? new Date(claimsSet.getIssueTime()
+        .toInstant()
+        .plus(REFRESHABLE_DURATION, ChronoUnit.SECONDS)
+        .toEpochMilli())
+        : claimsSet.getExpirationTime();
+
+      if (!(signedJWT.verify(verifier) && expiryTime.after(new Date())))
+        throw reject(token, isRefresh);
+      if (revokedTokenCache.isRevoked(claimsSet.getJWTID()))
+        throw reject(token, isRefresh);
+      return signedJWT;
+    } catch (ParseException | JOSEException e) {
+      throw reject(token, isRefresh);
+    }
+  }
+
+  private AppException reject(String token, boolean isRefresh) {
+    if (!isRefresh) {
+      rejectedTokens.put(fingerprint(token), Boolean.TRUE);
+    }
+    return new AppException(ErrorCode.UNAUTHENTICATED);
+  }
+
+  private static String fingerprint(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
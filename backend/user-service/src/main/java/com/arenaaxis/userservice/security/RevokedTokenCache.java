@@ -0,0 +1,105 @@
+package com.arenaaxis.userservice.security;
+
+import com.arenaaxis.userservice.entity.InvalidatedToken;
+import com.arenaaxis.userservice.repository.InvalidatedTokenRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RevokedTokenCache {
+  InvalidatedTokenRepository invalidatedTokenRepository;
+  Map<String, Date> revoked = new ConcurrentHashMap<>();
+
+  @NonFinal
+  volatile boolean complete = false;
+
+  @NonFinal
+  @Value("${jwt.revocation.cache_max_size}")
+  protected int MAX_SIZE;
+
+  @NonFinal
+  @Value("${jwt.token_valid_duration}")
+  protected long VALID_DURATION;
+
+  @NonFinal
+  @Value("${jwt.token_refreshable_duration}")
+  protected long REFRESHABLE_DURATION;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmLoad() {
+    reload();
+  }
+
+  public synchronized void revoke(String jti, Date expiryTime) {
+    if (!add(jti, expiryTime)) {
+      complete = false;
+    }
+  }
+
+  // Tokens without a jti cannot be revoked by logout, so they are never trusted
+  public boolean isRevoked(String jti) {
+    if (jti == null) return true;
+    if (revoked.containsKey(jti)) return true;
+    if (complete) return false;
+
+    return invalidatedTokenRepository.existsById(jti);
+  }
+
+  public Date refreshableUntil(Date expiryTime) {
+    return new Date(expiryTime.getTime() + refreshGraceMillis());
+  }
+
+  public Date refreshCutoff(Date now) {
+    return new Date(now.getTime() - refreshGraceMillis());
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.revocation.evict_interval}")
+  public void evictExpired() {
+    Date now = new Date();
+    revoked.values().removeIf(refreshableUntil -> refreshableUntil.before(now));
+    if (!complete && revoked.size() < MAX_SIZE) {
+      reload();
+    }
+  }
+
+  private synchronized void reload() {
+    List<InvalidatedToken> tokens = invalidatedTokenRepository.findByExpiryTimeAfter(refreshCutoff(new Date()));
+    boolean fits = true;
+    for (InvalidatedToken token : tokens) {
+      fits &= add(token.getId(), token.getExpiryTime());
+    }
+    complete = fits;
+    log.info("Loaded {} revoked tokens, cache complete: {}", tokens.size(), complete);
+  }
+
+  private boolean add(String jti, Date expiryTime) {
+    if (jti == null || expiryTime == null) return true;
+
+    Date refreshableUntil = refreshableUntil(expiryTime);
+    if (refreshableUntil.before(new Date())) return true;
+
+    if (revoked.size() >= MAX_SIZE && !revoked.containsKey(jti)) return false;
+    revoked.put(jti, refreshableUntil);
+    return true;
+  }
+
+  private long refreshGraceMillis() {
+    return Math.max(0, REFRESHABLE_DURATION - VALID_DURATION) * 1000;
+  }
+}
@@ -12,10 +12,11 @@ import com.arenaaxis.userservice.entity.enums.Role;
 import com.nimbusds.jose.JOSEException;
 
 import java.text.ParseException;
+import java.util.concurrent.CompletableFuture;
 
 public interface AuthenticationService {
   IntrospectResponse introspect(IntrospectRequest request) throws JOSEException, ParseException;
-  AuthenticationResponse authenticate(AuthenticationRequest request, Role role);
+  CompletableFuture<AuthenticationResponse> authenticate(AuthenticationRequest request, Role role);
   RefreshResponse refresh(RefreshRequest request) throws ParseException, JOSEException;
   void logout(LogoutRequest request) throws ParseException, JOSEException;
   String buildTokenWhenUpgradeUser(User user) throws ParseException, JOSEException;
@@ -0,0 +1,5 @@
+package com.arenaaxis.userservice.service;
+
+public interface InvalidatedTokenPurgeService {
+  long purgeExpired();
+}
@@ -0,0 +1,9 @@
+package com.arenaaxis.userservice.service;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface PasswordHashingService {
+  CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword);
+  boolean needsRehash(String encodedPassword);
+  CompletableFuture<String> encode(String rawPassword);
+}
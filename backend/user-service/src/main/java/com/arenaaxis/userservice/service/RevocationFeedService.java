@@ -0,0 +1,9 @@
+package com.arenaaxis.userservice.service;
+
+import com.arenaaxis.userservice.dto.response.RevocationSnapshotResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface RevocationFeedService {
+  RevocationSnapshotResponse snapshot();
+  SseEmitter subscribe(long cursor);
+}
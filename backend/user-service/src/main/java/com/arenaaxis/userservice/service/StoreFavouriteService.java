@@ -9,6 +9,7 @@ import java.util.List;
 public interface StoreFavouriteService {
   StoreClientDetailResponse createFavourite(String storeId, User currentUser);
   List<StoreSearchItemResponse> getFavourites(User currentUser);
+  boolean isFavourite(String storeId, User currentUser);
   void deleteFavouriteByStoreIdAndUser(String storeId, User currentUser);
   void deleteFavouriteByUser(User currentUser);
   void deleteFavouriteByStoreIdsAndUser(List<String> ids, User currentUser);
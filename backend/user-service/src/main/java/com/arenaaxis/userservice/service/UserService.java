@@ -2,6 +2,7 @@ package com.arenaaxis.userservice.service;
 
 import com.arenaaxis.userservice.dto.request.UserCreateRequest;
 import com.arenaaxis.userservice.dto.response.UserResponse;
+import com.arenaaxis.userservice.entity.User;
 
 import java.util.List;
 
@@ -9,6 +10,7 @@ public interface UserService {
   UserResponse createUser(UserCreateRequest request);
   UserResponse getUserById(String id);
   UserResponse getUserByEmail(String email);
+  UserResponse getProfile(User user);
   List<UserResponse> getUserPagination(int page, int pageSize);
   void deleteUser(String id);
   UserResponse toggleActiveUser(String id);
@@ -0,0 +1,159 @@
+package com.arenaaxis.userservice.service.cache;
+
+import com.arenaaxis.userservice.entity.Media;
+import com.arenaaxis.userservice.entity.User;
+import com.arenaaxis.userservice.entity.enums.MediaType;
+import com.arenaaxis.userservice.entity.enums.Role;
+import com.arenaaxis.userservice.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class UserCache {
+  private final UserRepository userRepository;
+  private final Cache<String, Snapshot> byId;
+  private final Cache<String, Snapshot> byEmail;
+
+  private final Counter idHits;
+  private final Counter idMisses;
+  private final Counter emailHits;
+  private final Counter emailMisses;
+
+  public UserCache(
+    UserRepository userRepository,
+    MeterRegistry meterRegistry,
+    @Value("${cache.user.ttl}") long ttl,
+    @Value("${cache.user.max_size}") int maxSize
+  ) {
+    this.userRepository = userRepository;
+    this.byId = cache(ttl, maxSize);
+    this.byEmail = cache(ttl, maxSize);
+
+    this.idHits = counter(meterRegistry, "id", "hit");
+    this.idMisses = counter(meterRegistry, "id", "miss");
+    this.emailHits = counter(meterRegistry, "email", "hit");
+    this.emailMisses = counter(meterRegistry, "email", "miss");
+    Gauge.builder("cache.user.size", byId, Cache::estimatedSize)
+      .tag("key", "id")
+      .register(meterRegistry);
+    Gauge.builder("cache.user.size", byEmail, Cache::estimatedSize)
+      .tag("key", "email")
+      .register(meterRegistry);
+  }
+
+  public User getById(String id) {
+    return lookup(byId, id, idHits, idMisses, userRepository::findById);
+  }
+
+  public User getByEmail(String email) {
+    return lookup(byEmail, email, emailHits, emailMisses, userRepository::findByEmail);
+  }
+
+  public void evict(User user) {
+    if (user == null) return;
+    if (user.getId() != null) byId.invalidate(user.getId());
+    if (user.getEmail() != null) byEmail.invalidate(user.getEmail());
+  }
+
+  public void evictById(String id) {
+    if (id == null) return;
+    Snapshot snapshot = byId.getIfPresent(id);
+    if (snapshot != null) byEmail.invalidate(snapshot.email());
+    byId.invalidate(id);
+  }
+
+  private User lookup(
+    Cache<String, Snapshot> cache,
+    String key,
+    Counter hits,
+    Counter misses,
+    Function<String, Optional<User>> loader
+  ) {
+    if (key == null) return null;
+
+    Snapshot cached = cache.getIfPresent(key);
+    if (cached != null) {
+      hits.increment();
+      return cached.toUser();
+    }
+
+    misses.increment();
+    User user = loader.apply(key).orElse(null);
+    if (user == null) return null;
+
+    Snapshot snapshot = Snapshot.of(user);
+    byId.put(snapshot.id(), snapshot);
+    byEmail.put(snapshot.email(), snapshot);
+    return snapshot.toUser();
+  }
+
+  private static Cache<String, Snapshot> cache(long ttl, int maxSize) {
+    return Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(Duration.ofMillis(ttl))
+      .build();
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String key, String result) {
+    return Counter.builder("cache.user.requests")
+      .tag("key", key)
+      .tag("result", result)
+      .register(meterRegistry);
+  }
+
+  // Only scalar columns are kept so every caller gets its own detached User; associations that change
+  // independently of the user row (bank account) are never cached and must be read from their repository.
+  private record Snapshot(
+    String id,
+    String email,
+    String password,
+    String phone,
+    String name,
+    boolean active,
+    MediaSnapshot avatar,
+    MediaSnapshot qrCode,
+    LocalDateTime createdAt,
+    Role role
+  ) {
+    static Snapshot of(User user) {
+      return new Snapshot(user.getId(), user.getEmail(), user.getPassword(), user.getPhone(), user.getName(),
+        user.isActive(), MediaSnapshot.of(user.getAvatar()), MediaSnapshot.of(user.getQrCode()),
+        user.getCreatedAt(), user.getRole());
+    }
+
+    User toUser() {
+      return User.builder()
+        .id(id)
+        .email(email)
+        .password(password)
+        .phone(phone)
+        .name(name)
+        .active(active)
+        .avatar(avatar == null ? null : avatar.toMedia())
+        .qrCode(qrCode == null ? null : qrCode.toMedia())
+        .createdAt(createdAt)
+        .role(role)
+        .build();
+    }
+  }
+
+  private record MediaSnapshot(String id, String url, MediaType mediaType) {
+    static MediaSnapshot of(Media media) {
+      return media == null ? null : new MediaSnapshot(media.getId(), media.getUrl(), media.getMediaType());
+    }
+
+    Media toMedia() {
+      return Media.builder().id(id).url(url).mediaType(mediaType).build();
+    }
+  }
+}
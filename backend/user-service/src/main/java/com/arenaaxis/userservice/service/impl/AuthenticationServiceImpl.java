@@ -15,10 +15,15 @@ import com.arenaaxis.userservice.exception.ErrorCode;
 import com.arenaaxis.userservice.mapper.UserMapper;
 import com.arenaaxis.userservice.repository.InvalidatedTokenRepository;
 import com.arenaaxis.userservice.repository.UserRepository;
+import com.arenaaxis.userservice.security.InternalIdentity;
+import com.arenaaxis.userservice.security.InternalIdentityAuthentication;
+import com.arenaaxis.userservice.security.JwtTokenVerifier;
+import com.arenaaxis.userservice.security.RevokedTokenCache;
 import com.arenaaxis.userservice.service.AuthenticationService;
+import com.arenaaxis.userservice.service.PasswordHashingService;
+import com.arenaaxis.userservice.service.cache.UserCache;
 import com.nimbusds.jose.*;
 import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import lombok.AccessLevel;
@@ -27,7 +32,6 @@ import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
@@ -36,6 +40,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -43,8 +48,11 @@ import java.util.UUID;
 public class AuthenticationServiceImpl implements AuthenticationService {
   InvalidatedTokenRepository invalidatedTokenRepository;
   UserRepository userRepository;
-  PasswordEncoder passwordEncoder;
+  PasswordHashingService passwordHashingService;
   UserMapper userMapper;
+  JwtTokenVerifier jwtTokenVerifier;
+  RevokedTokenCache revokedTokenCache;
+  UserCache userCache;
 
   @NonFinal
   @Value("${jwt.signer_key}")
@@ -54,10 +62,6 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   @Value("${jwt.token_valid_duration}")
   protected long VALID_DURATION;
 
-  @NonFinal
-  @Value("${jwt.token_refreshable_duration}")
-  protected long REFRESHABLE_DURATION;
-
   @Override
   public IntrospectResponse introspect(IntrospectRequest request)
     throws ParseException, JOSEException {
@@ -72,25 +76,35 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   }
 
   @Override
-  public AuthenticationResponse authenticate(AuthenticationRequest request, Role role) {
+  public CompletableFuture<AuthenticationResponse> authenticate(AuthenticationRequest request, Role role) {
     User user = userRepository.findByEmail(request.getEmail())
       .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
-    if (
-      !passwordEncoder.matches(request.getPassword(), user.getPassword()) ||
-        (role != null && user.getRole() != role)
-    ) {
-      throw new AppException(ErrorCode.USER_NOT_FOUND);
-    }
 
-    if (!user.isActive()) {
-      throw new AppException(ErrorCode.ACCOUNT_NOT_ACTIVATED);
-    }
-
-    String token = generateToken(user);
-    return AuthenticationResponse.builder()
-      .token(token)
-      .user(userMapper.toUserResponse(user))
-      .build();
+    return passwordHashingService.matches(request.getPassword(), user.getPassword())
+      .thenCompose(matched -> {
+        if (!matched || (role != null && user.getRole() != role)) {
+          throw new AppException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        if (!user.isActive()) {
+          throw new AppException(ErrorCode.ACCOUNT_NOT_ACTIVATED);
+        }
+
+        if (!passwordHashingService.needsRehash(user.getPassword())) {
+          return CompletableFuture.completedFuture(user);
+        }
+        return passwordHashingService.encode(request.getPassword())
+          .thenApply(encoded -> {
+            user.setPassword(encoded);
+            userRepository.save(user);
+            userCache.evict(user);
+            return user;
+          });
+      })
+      .thenApply(authenticated -> AuthenticationResponse.builder()
+        .token(generateToken(authenticated))
+        .user(userMapper.toUserResponse(authenticated))
+        .build());
   }
 
   @Override
@@ -114,12 +128,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
       var signedJwt = verify(request.getToken(), false);
       String jit = signedJwt.getJWTClaimsSet().getJWTID();
       Date expiryTime = signedJwt.getJWTClaimsSet().getExpirationTime();
-      InvalidatedToken invalidatedToken =
-        InvalidatedToken.builder().id(jit).expiryTime(expiryTime).build();
       String email = signedJwt.getJWTClaimsSet().getSubject();
       if (!userRepository.existsByEmail(email))
         throw new AppException(ErrorCode.USER_NOT_FOUND);
-      invalidatedTokenRepository.save(invalidatedToken);
+      saveInvalidatedToken(jit, expiryTime);
     } catch (AppException e) {
       throw new RuntimeException(e);
     }
@@ -134,33 +146,21 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     var authentication = SecurityContextHolder.getContext().getAuthentication();
     if (authentication.getCredentials() instanceof Jwt jwt) {
-      var claimsSet = verify(jwt.getTokenValue(), false).getJWTClaimsSet();
-      saveInvalidatedToken(claimsSet.getJWTID(), claimsSet.getExpirationTime());
+      saveInvalidatedToken(jwt.getId(), Date.from(jwt.getExpiresAt()));
+    } else if (authentication instanceof InternalIdentityAuthentication identityAuthentication) {
+      InternalIdentity identity = identityAuthentication.getPrincipal();
+      saveInvalidatedToken(identity.getJti(), new Date(identity.getExp()));
     }
 
     managedUser.setRole(Role.CLIENT);
     managedUser = userRepository.save(managedUser);
+    userCache.evict(managedUser);
     return generateToken(managedUser);
   }
 
   private SignedJWT verify (String token, boolean isRefresh)
     throws JOSEException, ParseException {
-    JWSVerifier verifier = new MACVerifier(SIGNER_KEY);
-    SignedJWT signedJWT = SignedJWT.parse(token);
-    Date expiryTime = (isRefresh)
-      ? new Date(signedJWT.getJWTClaimsSet()
-      .getIssueTime()
-      .toInstant()
-      .plus(REFRESHABLE_DURATION, ChronoUnit.SECONDS)
-      .toEpochMilli())
-      : signedJWT.getJWTClaimsSet().getExpirationTime();
-
-    var verified = signedJWT.verify(verifier);
-    if (!(verified && expiryTime.after(new Date())))
-      throw new AppException(ErrorCode.UNAUTHENTICATED);
-    if (invalidatedTokenRepository.existsById(signedJWT.getJWTClaimsSet().getJWTID()))
-      throw new AppException(ErrorCode.UNAUTHENTICATED);
-    return signedJWT;
+    return jwtTokenVerifier.verify(token, isRefresh);
   }
 
   private String generateToken(User user) {
@@ -172,6 +172,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
       .expirationTime(new Date(
         Instant.now().plus(VALID_DURATION, ChronoUnit.SECONDS).toEpochMilli()))
       .jwtID(UUID.randomUUID().toString())
+      .claim("uid", user.getId())
       .claim("scope", "ROLE_" + user.getRole().name())
       .build();
     Payload payload = new Payload(claimsSet.toJSONObject());
@@ -188,7 +189,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     InvalidatedToken invalidatedToken = InvalidatedToken.builder()
       .id(jti)
       .expiryTime(expiryTime)
+      .expiryBucket(InvalidatedToken.bucketOf(revokedTokenCache.refreshableUntil(expiryTime)))
       .build();
     invalidatedTokenRepository.save(invalidatedToken);
+    revokedTokenCache.revoke(jti, expiryTime);
   }
 }
@@ -29,7 +29,7 @@ public class BankAccountServiceImpl implements BankAccountService {
 
   @Override
   public BankAccountResponse createBankAccount(BankAccountRequest request, User user) {
-    if (user.getBankAccount() != null) {
+    if (bankAccountRepository.existsByUser_Id(user.getId())) {
       throw new AppException(ErrorCode.BANK_ACCOUNT_ALREADY_EXISTED);
     }
 
@@ -44,7 +44,7 @@ public class BankAccountServiceImpl implements BankAccountService {
   @Override
   @PostAuthorize("returnObject.user.id == user.id")
   public BankAccountResponse updateBankAccount(BankAccountRequest request, User user) {
-    BankAccount account = bankAccountMapper.toBankAccount(request);
+    BankAccount account = getAccount(user);
     Bank bank = getBank(request.getBankId());
     account.setBank(bank);
     account.setNumber(request.getNumber());
@@ -56,7 +56,7 @@ public class BankAccountServiceImpl implements BankAccountService {
 
   @Override
   public BankAccountResponse deleteBankAccount(User user) {
-    BankAccount account = user.getBankAccount();
+    BankAccount account = getAccount(user);
     account.setDeletedAt(LocalDateTime.now());
     account = bankAccountRepository.save(account);
     return bankAccountMapper.toResponse(account);
@@ -70,7 +70,14 @@ public class BankAccountServiceImpl implements BankAccountService {
 
   @Override
   public BankAccountResponse getByUser(User user) {
-    return bankAccountMapper.toResponse(user.getBankAccount());
+    return bankAccountRepository.findByUser_Id(user.getId())
+      .map(bankAccountMapper::toResponse)
+      .orElse(null);
+  }
+
+  BankAccount getAccount(User user) {
+    return bankAccountRepository.findByUser_Id(user.getId())
+      .orElseThrow(() -> new AppException(ErrorCode.BANK_ACCOUNT_NOT_FOUND));
   }
 
   Bank getBank(String bankId) {
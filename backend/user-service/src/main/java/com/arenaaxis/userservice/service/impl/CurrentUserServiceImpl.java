@@ -1,8 +1,9 @@
 package com.arenaaxis.userservice.service.impl;
 
 import com.arenaaxis.userservice.entity.User;
-import com.arenaaxis.userservice.repository.UserRepository;
+import com.arenaaxis.userservice.security.InternalIdentityAuthentication;
 import com.arenaaxis.userservice.service.CurrentUserService;
+import com.arenaaxis.userservice.service.cache.UserCache;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -10,12 +11,16 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class CurrentUserServiceImpl implements CurrentUserService {
-  UserRepository userRepository;
+  private static final String CURRENT_USER_ATTRIBUTE = CurrentUserServiceImpl.class.getName() + ".CURRENT_USER";
+
+  UserCache userCache;
 
   @Override
   public User getCurrentUser() {
@@ -27,8 +32,19 @@ public class CurrentUserServiceImpl implements CurrentUserService {
       return null;
     }
 
-    String email = authentication.getName();
-    return userRepository.findByEmail(email)
-      .orElse(null);
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null &&
+        attributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User memo) {
+      return memo;
+    }
+
+    User user = (authentication instanceof InternalIdentityAuthentication identityAuthentication)
+      ? userCache.getById(identityAuthentication.getPrincipal().getUid())
+      : userCache.getByEmail(authentication.getName());
+
+    if (attributes != null && user != null) {
+      attributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+    }
+    return user;
   }
 }
@@ -0,0 +1,88 @@
+package com.arenaaxis.userservice.service.impl;
+
+import com.arenaaxis.userservice.entity.InvalidatedToken;
+import com.arenaaxis.userservice.repository.InvalidatedTokenRepository;
+import com.arenaaxis.userservice.security.RevokedTokenCache;
+import com.arenaaxis.userservice.service.InvalidatedTokenPurgeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class InvalidatedTokenPurgeServiceImpl implements InvalidatedTokenPurgeService {
+  private final InvalidatedTokenRepository invalidatedTokenRepository;
+  private final RevokedTokenCache revokedTokenCache;
+  private final AtomicLong rowCount = new AtomicLong();
+  private final Counter purgedRows;
+  private final Timer purgeTimer;
+
+  @Value("${jwt.revocation.purge_batch_size}")
+  protected int BATCH_SIZE;
+
+  @Value("${jwt.revocation.purge_max_batches}")
+  protected int MAX_BATCHES;
+
+  public InvalidatedTokenPurgeServiceImpl(
+    InvalidatedTokenRepository invalidatedTokenRepository,
+    RevokedTokenCache revokedTokenCache,
+    MeterRegistry meterRegistry
+  ) {
+    this.invalidatedTokenRepository = invalidatedTokenRepository;
+    this.revokedTokenCache = revokedTokenCache;
+    this.purgedRows = Counter.builder("invalidated_tokens.purged")
+      .description("Expired invalidated token rows deleted by the purge job")
+      .register(meterRegistry);
+    this.purgeTimer = Timer.builder("invalidated_tokens.purge")
+      .description("Duration of a purge run")
+      .register(meterRegistry);
+    Gauge.builder("invalidated_tokens.rows", rowCount, AtomicLong::get)
+      .description("Row count of the invalidated token table after the last purge")
+      .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void refreshRowCount() {
+    rowCount.set(invalidatedTokenRepository.count());
+  }
+
+  @Override
+  @Scheduled(
+    initialDelayString = "${jwt.revocation.purge_interval}",
+    fixedDelayString = "${jwt.revocation.purge_interval}")
+  public long purgeExpired() {
+    long started = System.nanoTime();
+    Date now = new Date();
+    long currentBucket = InvalidatedToken.bucketOf(now);
+    Date refreshCutoff = revokedTokenCache.refreshCutoff(now);
+
+    long purged = 0;
+    for (int batch = 0; batch < MAX_BATCHES; batch++) {
+      int deleted = invalidatedTokenRepository.deleteExpiredBuckets(currentBucket, BATCH_SIZE);
+      if (deleted < BATCH_SIZE) {
+        deleted += invalidatedTokenRepository.deleteExpiredUnbucketed(refreshCutoff, BATCH_SIZE);
+      }
+
+      purged += deleted;
+      purgedRows.increment(deleted);
+      if (deleted < BATCH_SIZE) break;
+    }
+
+    long elapsed = System.nanoTime() - started;
+    purgeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+    refreshRowCount();
+    log.info("Purged {} expired invalidated tokens in {} ms", purged, elapsed / 1_000_000);
+    return purged;
+  }
+}
@@ -0,0 +1,63 @@
+package com.arenaaxis.userservice.service.impl;
+
+import com.arenaaxis.userservice.exception.AppException;
+import com.arenaaxis.userservice.exception.ErrorCode;
+import com.arenaaxis.userservice.service.PasswordHashingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+@Service
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+  private final PasswordEncoder passwordEncoder;
+  private final ExecutorService executor;
+  private final ExecutorService completionExecutor;
+  private final Counter rejections;
+
+  public PasswordHashingServiceImpl(
+    PasswordEncoder passwordEncoder,
+    @Qualifier("passwordHashingExecutor") ExecutorService executor,
+    @Qualifier("passwordHashingCompletionExecutor") ExecutorService completionExecutor,
+    MeterRegistry meterRegistry
+  ) {
+    this.passwordEncoder = passwordEncoder;
+    this.executor = executor;
+    this.completionExecutor = completionExecutor;
+    this.rejections = Counter.builder("password.hashing.rejected")
+      .description("Hashing tasks rejected because the pool queue was full")
+      .register(meterRegistry);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+    return hash(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean needsRehash(String encodedPassword) {
+    return passwordEncoder.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public CompletableFuture<String> encode(String rawPassword) {
+    return hash(() -> passwordEncoder.encode(rawPassword));
+  }
+
+  // Completes on the completion executor so dependent stages (DB writes, token signing) never hold a hashing thread
+  private <T> CompletableFuture<T> hash(Supplier<T> task) {
+    try {
+      return CompletableFuture.supplyAsync(task, executor)
+        .whenCompleteAsync((result, error) -> { }, completionExecutor);
+    } catch (RejectedExecutionException e) {
+      rejections.increment();
+      throw new AppException(ErrorCode.TOO_MANY_LOGIN_REQUESTS);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.arenaaxis.userservice.service.impl;
+
+import com.arenaaxis.userservice.dto.response.RevocationSnapshotResponse;
+import com.arenaaxis.userservice.dto.response.RevokedTokenResponse;
+import com.arenaaxis.userservice.entity.InvalidatedToken;
+import com.arenaaxis.userservice.repository.InvalidatedTokenRepository;
+import com.arenaaxis.userservice.security.RevokedTokenCache;
+import com.arenaaxis.userservice.service.RevocationFeedService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RevocationFeedServiceImpl implements RevocationFeedService {
+  private static final String REVOKED_EVENT = "revoked";
+  private static final String HEARTBEAT_EVENT = "heartbeat";
+
+  InvalidatedTokenRepository invalidatedTokenRepository;
+  RevokedTokenCache revokedTokenCache;
+  List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+  @NonFinal
+  volatile long broadcastCursor = System.currentTimeMillis();
+
+  @NonFinal
+  @Value("${jwt.revocation.stream_timeout}")
+  protected long STREAM_TIMEOUT;
+
+  @NonFinal
+  @Value("${jwt.revocation.cursor_overlap}")
+  protected long CURSOR_OVERLAP;
+
+  @Override
+  public RevocationSnapshotResponse snapshot() {
+    long cursor = System.currentTimeMillis();
+    List<RevokedTokenResponse> tokens = invalidatedTokenRepository
+      .findByExpiryTimeAfter(new Date(cursor))
+      .stream()
+      .map(this::toResponse)
+      .toList();
+
+    return RevocationSnapshotResponse.builder()
+      .cursor(cursor)
+      .tokens(tokens)
+      .build();
+  }
+
+  @Override
+  public SseEmitter subscribe(long cursor) {
+    SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT);
+    emitter.onCompletion(() -> emitters.remove(emitter));
+    emitter.onTimeout(() -> emitters.remove(emitter));
+    emitter.onError(ex -> emitters.remove(emitter));
+    emitters.add(emitter);
+
+    long now = System.currentTimeMillis();
+    List<RevokedTokenResponse> missed = findSince(cursor);
+    if (!send(emitter, missed, now)) {
+      emitters.remove(emitter);
+    }
+    return emitter;
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.revocation.poll_interval}")
+  public void broadcast() {
+    long now = System.currentTimeMillis();
+    List<RevokedTokenResponse> tokens = findSince(broadcastCursor);
+    broadcastCursor = now;
+
+    tokens.forEach(token ->
+      revokedTokenCache.revoke(token.getJti(), new Date(token.getExpiresAt())));
+
+    emitters.forEach(emitter -> {
+      if (!send(emitter, tokens, now)) {
+        emitters.remove(emitter);
+      }
+    });
+  }
+
+  private List<RevokedTokenResponse> findSince(long cursor) {
+    return invalidatedTokenRepository
+      .findByRevokedAtAfterAndExpiryTimeAfterOrderByRevokedAtAsc(
+        new Date(cursor - CURSOR_OVERLAP), new Date())
+      .stream()
+      .map(this::toResponse)
+      .toList();
+  }
+
+  private boolean send(SseEmitter emitter, List<RevokedTokenResponse> tokens, long cursor) {
+    try {
+      for (RevokedTokenResponse token : tokens) {
+        emitter.send(SseEmitter.event()
+          .name(REVOKED_EVENT)
+          .id(String.valueOf(token.getCursor()))
+          .data(token));
+      }
+      emitter.send(SseEmitter.event()
+        .name(HEARTBEAT_EVENT)
+        .id(String.valueOf(cursor))
+        .data(RevokedTokenResponse.builder().cursor(cursor).build()));
+      return true;
+    } catch (IOException | IllegalStateException e) {
+      log.debug("Dropping revocation subscriber: {}", e.getMessage());
+      emitter.completeWithError(e);
+      return false;
+    }
+  }
+
+  private RevokedTokenResponse toResponse(InvalidatedToken token) {
+    return RevokedTokenResponse.builder()
+      .jti(token.getId())
+      .expiresAt(token.getExpiryTime().getTime())
+      .cursor(token.getRevokedAt() == null ? 0 : token.getRevokedAt().getTime())
+      .build();
+  }
+}
@@ -55,6 +55,11 @@ public class StoreFavouriteServiceImpl implements StoreFavouriteService {
       .toList();
   }
 
+  @Override
+  public boolean isFavourite(String storeId, User currentUser) {
+    return storeFavouriteRepository.existsByStoreIdAndUserId(storeId, currentUser.getId());
+  }
+
   @Override
   @Transactional
   public void deleteFavouriteByStoreIdAndUser(String storeId, User currentUser) {
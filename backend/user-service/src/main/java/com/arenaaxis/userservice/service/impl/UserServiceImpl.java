@@ -7,8 +7,10 @@ import com.arenaaxis.userservice.entity.enums.Role;
 import com.arenaaxis.userservice.exception.AppException;
 import com.arenaaxis.userservice.exception.ErrorCode;
 import com.arenaaxis.userservice.mapper.UserMapper;
+import com.arenaaxis.userservice.repository.BankAccountRepository;
 import com.arenaaxis.userservice.repository.UserRepository;
 import com.arenaaxis.userservice.service.UserService;
+import com.arenaaxis.userservice.service.cache.UserCache;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -27,8 +29,10 @@ import java.util.List;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class UserServiceImpl implements UserService {
   UserRepository userRepository;
+  BankAccountRepository bankAccountRepository;
   PasswordEncoder passwordEncoder;
   UserMapper userMapper;
+  UserCache userCache;
 
   @Override
   public UserResponse createUser(UserCreateRequest request) {
@@ -58,6 +62,13 @@ public class UserServiceImpl implements UserService {
       .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND)));
   }
 
+  @Override
+  public UserResponse getProfile(User user) {
+    if (user == null) return null;
+    bankAccountRepository.findByUser_Id(user.getId()).ifPresent(user::setBankAccount);
+    return userMapper.toUserResponse(user);
+  }
+
   @Override
   @PreAuthorize("hasRole('ROLE_ADMIN')")
   public List<UserResponse> getUserPagination(int page, int pageSize) {
@@ -74,6 +85,7 @@ public class UserServiceImpl implements UserService {
   @PreAuthorize("hasRole('ROLE_ADMIN')")
   public void deleteUser(String id) {
     userRepository.deleteById(id);
+    userCache.evictById(id);
   }
 
   @Override
@@ -84,6 +96,7 @@ public class UserServiceImpl implements UserService {
       .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
 
     user.setActive(!user.isActive());
+    userCache.evict(user);
     return userMapper.toUserResponse(user);
   }
 }
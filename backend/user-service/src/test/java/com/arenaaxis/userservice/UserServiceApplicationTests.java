@@ -3,7 +3,7 @@ package com.arenaaxis.userservice;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "internal_identity.secret=context-test-internal-identity-secret")
 class UserServiceApplicationTests {
 
   @Test
@@ -0,0 +1,72 @@
+package com.arenaaxis.userservice.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// mvn test -Dtest=PasswordHashingBenchmark -Dbenchmark=true [-Dbenchmark.strengths=10,11,12] [-Dbenchmark.seconds=5]
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PasswordHashingBenchmark {
+  private static final String PASSWORD = "Arena@Axis2024";
+
+  @Test
+  void loginsPerSecondPerCore() throws Exception {
+    int cores = Runtime.getRuntime().availableProcessors();
+    long seconds = Long.getLong("benchmark.seconds", 5);
+    int[] strengths = Arrays.stream(System.getProperty("benchmark.strengths", "8,10,12").split(","))
+      .map(String::trim)
+      .mapToInt(Integer::parseInt)
+      .toArray();
+
+    System.out.printf("%-10s %-12s %-16s %-12s%n", "strength", "logins/s", "logins/s/core", "avg ms");
+    for (int strength : strengths) {
+      BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+      String encoded = encoder.encode(PASSWORD);
+      run(encoder, encoded, cores, 1);
+
+      long started = System.nanoTime();
+      long logins = run(encoder, encoded, cores, seconds);
+      double elapsed = (System.nanoTime() - started) / 1e9;
+      double throughput = logins / elapsed;
+
+      System.out.printf("%-10d %-12.1f %-16.2f %-12.2f%n",
+        strength, throughput, throughput / cores, elapsed * 1000 * cores / logins);
+      assertTrue(logins > 0);
+    }
+  }
+
+  private long run(BCryptPasswordEncoder encoder, String encoded, int threads, long seconds) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    try {
+      List<Future<Long>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          long count = 0;
+          while (System.nanoTime() < deadline) {
+            if (encoder.matches(PASSWORD, encoded)) count++;
+          }
+          return count;
+        }));
+      }
+
+      long total = 0;
+      for (Future<Long> future : futures) total += future.get();
+      return total;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.arenaaxis.userservice.controller;
+
+import com.arenaaxis.userservice.config.CustomJwtDecoder;
+import com.arenaaxis.userservice.config.SecurityConfig;
+import com.arenaaxis.userservice.dto.response.RevocationSnapshotResponse;
+import com.arenaaxis.userservice.security.InternalIdentity;
+import com.arenaaxis.userservice.security.InternalIdentityVerifier;
+import com.arenaaxis.userservice.service.RevocationFeedService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = RevocationController.class, properties = {
+  "internal_identity.enabled=false",
+  "internal_identity.secret=" + RevocationControllerTest.SECRET,
+  "internal_identity.max_age=30000"
+})
+@Import({SecurityConfig.class, InternalIdentityVerifier.class})
+class RevocationControllerTest {
+  static final String SECRET = "revocation-controller-test-secret-0123";
+
+  @Autowired
+  MockMvc mockMvc;
+
+  @MockitoBean
+  RevocationFeedService revocationFeedService;
+
+  @MockitoBean
+  CustomJwtDecoder customJwtDecoder;
+
+  @Test
+  void snapshot_rejectsUnsignedRequest() throws Exception {
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/internal/revocations")).andReturn();
+
+    assertDenied(result);
+    verifyNoInteractions(revocationFeedService);
+  }
+
+  @Test
+  void snapshot_rejectsIdentitySignedWithAnotherKey() throws Exception {
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/internal/revocations")
+        .header(InternalIdentityVerifier.HEADER,
+          sign(InternalIdentityVerifier.SERVICE_ROLE, "attacker-chosen-secret-0123456789abcdef")))
+      .andReturn();
+
+    assertDenied(result);
+    verifyNoInteractions(revocationFeedService);
+  }
+
+  @Test
+  void stream_rejectsUnsignedRequest() throws Exception {
+    MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/internal/revocations/stream")).andReturn();
+
+    assertDenied(result);
+    verifyNoInteractions(revocationFeedService);
+  }
+
+  @Test
+  void snapshot_servesServiceIdentitySignedWithConfiguredKey() throws Exception {
+    when(revocationFeedService.snapshot())
+      .thenReturn(RevocationSnapshotResponse.builder().cursor(7).tokens(List.of()).build());
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/internal/revocations")
+        .header(InternalIdentityVerifier.HEADER, sign(InternalIdentityVerifier.SERVICE_ROLE, SECRET)))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.cursor").value(7));
+  }
+
+  private static void assertDenied(MvcResult result) {
+    int status = result.getResponse().getStatus();
+    assertTrue(status == 401 || status == 403, "expected 401 or 403 but was " + status);
+  }
+
+  private static String sign(String role, String secret) throws Exception {
+    long now = System.currentTimeMillis();
+    InternalIdentity identity = InternalIdentity.builder().uid("gateway").role(role).exp(now + 10_000).iat(now).build();
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+    byte[] payload = new ObjectMapper().writeValueAsBytes(identity);
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    return encoder.encodeToString(payload) + "." + encoder.encodeToString(mac.doFinal(payload));
+  }
+}
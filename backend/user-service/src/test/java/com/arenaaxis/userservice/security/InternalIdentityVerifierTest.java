@@ -0,0 +1,51 @@
+package com.arenaaxis.userservice.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InternalIdentityVerifierTest {
+  private static final String SECRET = "internal-identity-test-secret-0123456789";
+
+  @Test
+  void verify_acceptsServiceIdentity_evenWhenUserPropagationIsDisabled() throws Exception {
+    InternalIdentityVerifier verifier = new InternalIdentityVerifier(false, SECRET, 30_000);
+
+    assertTrue(verifier.verify(sign(identity(InternalIdentityVerifier.SERVICE_ROLE), SECRET)).isPresent());
+    assertTrue(verifier.verify(sign(identity("CLIENT"), SECRET)).isEmpty());
+  }
+
+  @Test
+  void verify_rejectsIdentitySignedWithAnotherKey() throws Exception {
+    InternalIdentityVerifier verifier = new InternalIdentityVerifier(true, SECRET, 30_000);
+
+    assertTrue(verifier.verify(sign(identity(InternalIdentityVerifier.SERVICE_ROLE), "other-secret")).isEmpty());
+    assertTrue(verifier.verify(null).isEmpty());
+  }
+
+  @Test
+  void constructor_rejectsMissingOrShortSecret() {
+    assertThrows(IllegalStateException.class, () -> new InternalIdentityVerifier(false, null, 30_000));
+    assertThrows(IllegalStateException.class, () -> new InternalIdentityVerifier(false, "", 30_000));
+    assertThrows(IllegalStateException.class, () -> new InternalIdentityVerifier(true, "too-short-secret", 30_000));
+  }
+
+  private static InternalIdentity identity(String role) {
+    long now = System.currentTimeMillis();
+    return InternalIdentity.builder().uid("gateway").role(role).exp(now + 10_000).iat(now).build();
+  }
+
+  private static String sign(InternalIdentity identity, String secret) throws Exception {
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+    byte[] payload = new ObjectMapper().writeValueAsBytes(identity);
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    return encoder.encodeToString(payload) + "." + encoder.encodeToString(mac.doFinal(payload));
+  }
+}
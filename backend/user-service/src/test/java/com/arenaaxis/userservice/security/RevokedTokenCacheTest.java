@@ -0,0 +1,95 @@
+package com.arenaaxis.userservice.security;
+
+import com.arenaaxis.userservice.entity.InvalidatedToken;
+import com.arenaaxis.userservice.repository.InvalidatedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedTokenCacheTest {
+  @Mock
+  InvalidatedTokenRepository invalidatedTokenRepository;
+
+  RevokedTokenCache revokedTokenCache;
+
+  @BeforeEach
+  void setup() {
+    revokedTokenCache = new RevokedTokenCache(invalidatedTokenRepository);
+    ReflectionTestUtils.setField(revokedTokenCache, "MAX_SIZE", 100);
+    ReflectionTestUtils.setField(revokedTokenCache, "VALID_DURATION", 3_600L);
+    ReflectionTestUtils.setField(revokedTokenCache, "REFRESHABLE_DURATION", 36_000L);
+    when(invalidatedTokenRepository.findByExpiryTimeAfter(any(Date.class))).thenReturn(List.of());
+    revokedTokenCache.warmLoad();
+  }
+
+  @Test
+  void isRevoked_staysTrueAfterAccessExpiry_whileTokenIsStillRefreshable() {
+    Date accessExpiredMinuteAgo = new Date(System.currentTimeMillis() - 60_000);
+
+    revokedTokenCache.revoke("jti", accessExpiredMinuteAgo);
+    revokedTokenCache.evictExpired();
+
+    assertTrue(revokedTokenCache.isRevoked("jti"));
+    verify(invalidatedTokenRepository, never()).existsById(any());
+  }
+
+  @Test
+  void revoke_ignoresTokensPastTheRefreshWindow() {
+    Date refreshWindowClosed = new Date(System.currentTimeMillis() - 36_000_000L);
+
+    revokedTokenCache.revoke("jti", refreshWindowClosed);
+
+    assertFalse(revokedTokenCache.isRevoked("jti"));
+  }
+
+  @Test
+  void warmLoad_includesRowsWhoseAccessExpiryPassedWithinTheRefreshWindow() {
+    Date accessExpiredHourAgo = new Date(System.currentTimeMillis() - 3_600_000L);
+    when(invalidatedTokenRepository.findByExpiryTimeAfter(any(Date.class))).thenReturn(List.of(
+      InvalidatedToken.builder().id("jti").expiryTime(accessExpiredHourAgo).build()));
+
+    revokedTokenCache.warmLoad();
+
+    assertTrue(revokedTokenCache.isRevoked("jti"));
+    verify(invalidatedTokenRepository, atLeastOnce()).findByExpiryTimeAfter(argThat(since ->
+      since.getTime() < System.currentTimeMillis() - 32_000_000L));
+  }
+
+  @Test
+  void evictExpired_reloadsAndStopsHittingTheDatabase_onceTheCacheFitsAgain() {
+    ReflectionTestUtils.setField(revokedTokenCache, "MAX_SIZE", 1);
+    Date stillRefreshable = new Date(System.currentTimeMillis() + 60_000);
+    revokedTokenCache.revoke("first", stillRefreshable);
+    revokedTokenCache.revoke("second", stillRefreshable);
+
+    revokedTokenCache.isRevoked("unknown");
+    verify(invalidatedTokenRepository).existsById("unknown");
+
+    ReflectionTestUtils.setField(revokedTokenCache, "MAX_SIZE", 10);
+    when(invalidatedTokenRepository.findByExpiryTimeAfter(any(Date.class))).thenReturn(List.of(
+      InvalidatedToken.builder().id("first").expiryTime(stillRefreshable).build(),
+      InvalidatedToken.builder().id("second").expiryTime(stillRefreshable).build()));
+    revokedTokenCache.evictExpired();
+
+    assertTrue(revokedTokenCache.isRevoked("second"));
+    assertFalse(revokedTokenCache.isRevoked("other"));
+    verify(invalidatedTokenRepository, never()).existsById("other");
+  }
+
+  @Test
+  void isRevoked_treatsMissingJtiAsRevoked() {
+    assertTrue(revokedTokenCache.isRevoked(null));
+    verify(invalidatedTokenRepository, never()).existsById(any());
+  }
+}
@@ -0,0 +1,80 @@
+package com.arenaaxis.userservice.service.cache;
+
+import com.arenaaxis.userservice.entity.BankAccount;
+import com.arenaaxis.userservice.entity.Media;
+import com.arenaaxis.userservice.entity.User;
+import com.arenaaxis.userservice.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+  @Mock
+  UserRepository userRepository;
+
+  SimpleMeterRegistry meterRegistry;
+  UserCache userCache;
+  User user;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    userCache = new UserCache(userRepository, meterRegistry, 60_000, 100);
+    user = User.builder().id("user-id").email("user@arenaaxis.com").build();
+  }
+
+  @Test
+  void getByEmail_loadsOnce_andServesIdLookupsFromCache() {
+    when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+    assertEquals(user.getId(), userCache.getByEmail(user.getEmail()).getId());
+    assertEquals(user.getId(), userCache.getByEmail(user.getEmail()).getId());
+    assertEquals(user.getEmail(), userCache.getById(user.getId()).getEmail());
+
+    verify(userRepository, times(1)).findByEmail(user.getEmail());
+    verify(userRepository, never()).findById(anyString());
+    assertEquals(1, meterRegistry.get("cache.user.requests")
+      .tag("key", "email").tag("result", "miss").counter().count());
+    assertEquals(1, meterRegistry.get("cache.user.requests")
+      .tag("key", "email").tag("result", "hit").counter().count());
+  }
+
+  @Test
+  void lookups_handOutDetachedCopies_withoutBankAccount() {
+    user.setBankAccount(BankAccount.builder().id("account-id").build());
+    user.setAvatar(Media.builder().id("media-id").url("https://cdn/avatar.png").build());
+    when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+    User first = userCache.getById(user.getId());
+    first.setName("changed");
+    first.getAvatar().setUrl("https://cdn/other.png");
+    User second = userCache.getById(user.getId());
+
+    assertNotSame(user, first);
+    assertNotSame(first, second);
+    assertNull(second.getName());
+    assertEquals("https://cdn/avatar.png", second.getAvatar().getUrl());
+    assertNull(second.getBankAccount());
+  }
+
+  @Test
+  void evictById_removesBothKeys() {
+    when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+    when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+    userCache.getById(user.getId());
+    userCache.evictById(user.getId());
+    userCache.getByEmail(user.getEmail());
+
+    verify(userRepository, times(1)).findByEmail(user.getEmail());
+  }
+}
@@ -0,0 +1,76 @@
+package com.arenaaxis.userservice.service.impl;
+
+import com.arenaaxis.userservice.repository.InvalidatedTokenRepository;
+import com.arenaaxis.userservice.security.RevokedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InvalidatedTokenPurgeServiceImplTest {
+  @Mock
+  InvalidatedTokenRepository invalidatedTokenRepository;
+
+  @Mock
+  RevokedTokenCache revokedTokenCache;
+
+  SimpleMeterRegistry meterRegistry;
+  InvalidatedTokenPurgeServiceImpl purgeService;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry();
+    purgeService = new InvalidatedTokenPurgeServiceImpl(invalidatedTokenRepository, revokedTokenCache, meterRegistry);
+    ReflectionTestUtils.setField(purgeService, "BATCH_SIZE", 100);
+    ReflectionTestUtils.setField(purgeService, "MAX_BATCHES", 5);
+  }
+
+  @Test
+  void purgeExpired_deletesInBatches_untilBatchIsNotFull() {
+    when(revokedTokenCache.refreshCutoff(any(Date.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(invalidatedTokenRepository.deleteExpiredBuckets(anyLong(), eq(100)))
+      .thenReturn(100, 100, 30);
+    when(invalidatedTokenRepository.deleteExpiredUnbucketed(any(Date.class), eq(100)))
+      .thenReturn(5);
+    when(invalidatedTokenRepository.count()).thenReturn(42L);
+
+    long purged = purgeService.purgeExpired();
+
+    assertEquals(235, purged);
+    verify(invalidatedTokenRepository, times(3)).deleteExpiredBuckets(anyLong(), eq(100));
+    assertEquals(235, meterRegistry.get("invalidated_tokens.purged").counter().count());
+    assertEquals(42, meterRegistry.get("invalidated_tokens.rows").gauge().value());
+  }
+
+  @Test
+  void purgeExpired_keepsUnbucketedRowsUntilTheRefreshWindowCloses() {
+    Date refreshCutoff = new Date(System.currentTimeMillis() - 3_600_000L);
+    when(revokedTokenCache.refreshCutoff(any(Date.class))).thenReturn(refreshCutoff);
+    when(invalidatedTokenRepository.deleteExpiredBuckets(anyLong(), eq(100))).thenReturn(0);
+    when(invalidatedTokenRepository.deleteExpiredUnbucketed(refreshCutoff, 100)).thenReturn(3);
+
+    assertEquals(3, purgeService.purgeExpired());
+    verify(invalidatedTokenRepository).deleteExpiredUnbucketed(refreshCutoff, 100);
+  }
+
+  @Test
+  void purgeExpired_stopsAtMaxBatches() {
+    when(invalidatedTokenRepository.deleteExpiredBuckets(anyLong(), eq(100))).thenReturn(100);
+
+    long purged = purgeService.purgeExpired();
+
+    assertEquals(500, purged);
+    verify(invalidatedTokenRepository, times(5)).deleteExpiredBuckets(anyLong(), eq(100));
+    verify(invalidatedTokenRepository, never()).deleteExpiredUnbucketed(any(Date.class), anyInt());
+  }
+}
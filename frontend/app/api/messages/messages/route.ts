@@ -8,14 +8,16 @@ const API_BASE_URL = process.env.USER_SERVICE_DOMAIN || 'https://www.executexan.
  * 
  * Query params:
  * - conversationId: ID của cuộc hội thoại
- * - page: Trang (default: 0)
- * - perPage: Số item trên 1 trang (default: 50)
+ * - before: ID tin nhắn, lấy các tin nhắn cũ hơn (tùy chọn)
+ * - after: ID tin nhắn, lấy các tin nhắn mới hơn (tùy chọn)
+ * - perPage: Số item trên 1 trang (default: 50, tối đa 100)
  */
 export async function GET(request: NextRequest) {
     try {
         const searchParams = request.nextUrl.searchParams
         const conversationId = searchParams.get('conversationId')
-        const page = searchParams.get('page') || '0'
+        const before = searchParams.get('before')
+        const after = searchParams.get('after')
         const perPage = searchParams.get('perPage') || '50'
 
         // Validate conversationId
@@ -43,8 +45,9 @@ export async function GET(request: NextRequest) {
         // Xây dựng URL backend
         const backendUrl = new URL('/messages', API_BASE_URL)
         backendUrl.searchParams.append('conversationId', conversationId)
-        backendUrl.searchParams.append('page', page)
         backendUrl.searchParams.append('perPage', perPage)
+        if (before) backendUrl.searchParams.append('before', before)
+        if (after) backendUrl.searchParams.append('after', after)
 
         console.log(`📥 [messages route] Fetching from: ${backendUrl.toString()}`)
         console.log(`📤 [messages route] Sending Authorization header: Bearer ${token.substring(0, 20)}...`)
@@ -120,12 +120,25 @@ export default function ChatPage() {
   // API Hooks - Load messages của conversation
   // Chỉ fetch nếu conversation ID không phải là temporary ID (new-{timestamp})
   const shouldFetchMessages = selectedConversation?.id && !selectedConversation.id.startsWith('new-')
-  const { messages: apiMessages, loading: messagesLoading, refetch: refetchMessages } = useConversationMessages(
+  const {
+    messages: apiMessages,
+    loading: messagesLoading,
+    loadingOlder: olderMessagesLoading,
+    hasMore: hasOlderMessages,
+    refetch: refetchMessages,
+    loadOlder: loadOlderMessages,
+  } = useConversationMessages(
     shouldFetchMessages ? selectedConversation?.id : undefined,
-    0,
-    10000  // Load tất cả messages thay vì chỉ 50
+    50
   )
 
+  const handleLoadOlderMessages = async () => {
+    const olderMessages = await loadOlderMessages()
+    if (olderMessages.length > 0) {
+      setMessages(prev => [...olderMessages, ...prev])
+    }
+  }
+
   // Update messages khi load từ API
   useEffect(() => {
     console.log('📥 [useEffect] API messages loaded:', apiMessages.length)
@@ -851,6 +864,18 @@ export default function ChatPage() {
               ref={messagesContainerRef}
               className="flex-1 overflow-y-auto p-6 space-y-3 bg-gray-50 min-h-0 pb-16"
             >
+              {!messagesLoading && hasOlderMessages && (
+                <div className="flex justify-center">
+                  <button
+                    type="button"
+                    onClick={handleLoadOlderMessages}
+                    disabled={olderMessagesLoading}
+                    className="text-sm text-green-600 hover:underline disabled:opacity-50"
+                  >
+                    {olderMessagesLoading ? 'Đang tải...' : 'Xem tin nhắn cũ hơn'}
+                  </button>
+                </div>
+              )}
               {messagesLoading ? (
                 <div className="flex items-center justify-center h-full">
                   <Loader className="w-6 h-6 text-green-600 animate-spin" />
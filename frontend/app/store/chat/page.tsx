@@ -50,12 +50,25 @@ function StoreChatPageContent() {
 
     // API Hooks - Load messages
     const shouldFetchMessages = selectedConversation?.id && !selectedConversation.id.startsWith('new-')
-    const { messages: apiMessages, loading: messagesLoading, refetch: refetchMessages } = useConversationMessages(
+    const {
+        messages: apiMessages,
+        loading: messagesLoading,
+        loadingOlder: olderMessagesLoading,
+        hasMore: hasOlderMessages,
+        refetch: refetchMessages,
+        loadOlder: loadOlderMessages,
+    } = useConversationMessages(
         shouldFetchMessages ? selectedConversation?.id : undefined,
-        0,
-        10000
+        50
     )
 
+    const handleLoadOlderMessages = async () => {
+        const olderMessages = await loadOlderMessages()
+        if (olderMessages.length > 0) {
+            setMessages(prev => [...olderMessages, ...prev])
+        }
+    }
+
     // Update messages từ API
     useEffect(() => {
         console.log('📥 [Store Chat] API messages loaded:', apiMessages.length)
@@ -694,6 +707,18 @@ function StoreChatPageContent() {
                             {/* Messages */}
                             <ScrollArea ref={messagesContainerRef} className="flex-1 overflow-hidden">
                                 <div className="p-4 space-y-4">
+                                    {!messagesLoading && hasOlderMessages && (
+                                        <div className="flex justify-center">
+                                            <button
+                                                type="button"
+                                                onClick={handleLoadOlderMessages}
+                                                disabled={olderMessagesLoading}
+                                                className="text-sm text-blue-600 hover:underline disabled:opacity-50"
+                                            >
+                                                {olderMessagesLoading ? 'Đang tải...' : 'Xem tin nhắn cũ hơn'}
+                                            </button>
+                                        </div>
+                                    )}
                                     {messagesLoading ? (
                                         <div className="flex items-center justify-center py-8">
                                             <Loader className="h-4 w-4 animate-spin text-blue-600" />
@@ -1,4 +1,4 @@
-import { useEffect, useState, useCallback } from 'react'
+import { useEffect, useState, useCallback, useRef } from 'react'
 import { ChatRoom, ChatMessage } from '@/types'
 import { getConversations as fetchConversations, getMessages as fetchMessages } from '@/services/message.service'
 
@@ -50,15 +50,19 @@ export function useConversations(
 /**
  * Hook để fetch messages từ một conversation
  * Gọi /api/messages/messages
+ *
+ * Tải trang mới nhất trước; loadOlder() trả về trang cũ hơn tiếp theo để ghép vào đầu danh sách.
  */
 export function useConversationMessages(
     conversationId?: string,
-    page: number = 0,
-    perPage: number = 1000
+    perPage: number = 50
 ) {
     const [messages, setMessages] = useState<ChatMessage[]>([])
     const [loading, setLoading] = useState(false)
+    const [loadingOlder, setLoadingOlder] = useState(false)
+    const [hasMore, setHasMore] = useState(false)
     const [error, setError] = useState<string | null>(null)
+    const oldestIdRef = useRef<string | undefined>(undefined)
 
     const refetch = useCallback(async () => {
         if (!conversationId) {
@@ -71,7 +75,7 @@ export function useConversationMessages(
 
         try {
             console.log('📥 [useConversationMessages] Fetching messages for:', conversationId)
-            const result = await fetchMessages(conversationId, page, perPage)
+            const result = await fetchMessages(conversationId, perPage)
             console.log('📥 [useConversationMessages] Result:', result)
 
             if (result.error) {
@@ -80,15 +84,10 @@ export function useConversationMessages(
             } else {
                 console.log('✅ [useConversationMessages] Messages loaded:', result.data?.length)
 
-                // Transform API data to ChatMessage format
-                const transformedMessages = (result.data || []).map((msg: any) => ({
-                    id: msg.id || `${Date.now()}-${Math.random()}`,
-                    conversationId: conversationId,
-                    senderId: msg.senderId || msg.sender_id || '',
-                    content: msg.content || '',
-                    status: msg.status || 'RECEIVED',
-                    timestamp: msg.timestamp || msg.createdAt || new Date().toISOString()
-                }))
+                const page = result.data || []
+                const transformedMessages = toChatMessages(page, conversationId)
+                oldestIdRef.current = transformedMessages[0]?.id
+                setHasMore(page.length === perPage)
 
                 console.log('📝 [useConversationMessages] Transformed:', transformedMessages.length)
                 setMessages(transformedMessages)
@@ -96,7 +95,31 @@ export function useConversationMessages(
         } finally {
             setLoading(false)
         }
-    }, [conversationId, page, perPage])
+    }, [conversationId, perPage])
+
+    const loadOlder = useCallback(async (): Promise<ChatMessage[]> => {
+        if (!conversationId || !oldestIdRef.current) return []
+
+        setLoadingOlder(true)
+        try {
+            const result = await fetchMessages(conversationId, perPage, oldestIdRef.current)
+            if (result.error) {
+                console.error('❌ [useConversationMessages] Error loading older messages:', result.error)
+                setError(result.error)
+                return []
+            }
+
+            const page = result.data || []
+            const olderMessages = toChatMessages(page, conversationId)
+            if (olderMessages.length > 0) {
+                oldestIdRef.current = olderMessages[0].id
+            }
+            setHasMore(page.length === perPage)
+            return olderMessages
+        } finally {
+            setLoadingOlder(false)
+        }
+    }, [conversationId, perPage])
 
     useEffect(() => {
         refetch()
@@ -105,7 +128,22 @@ export function useConversationMessages(
     return {
         messages,
         loading,
+        loadingOlder,
+        hasMore,
         error,
         refetch,
+        loadOlder,
     }
 }
+
+// API trả về tin nhắn mới nhất trước, đảo lại để hiển thị theo thứ tự thời gian
+function toChatMessages(data: any[], conversationId: string): ChatMessage[] {
+    return [...data].reverse().map((msg: any) => ({
+        id: msg.id || `${Date.now()}-${Math.random()}`,
+        conversationId: conversationId,
+        senderId: msg.senderId || msg.sender_id || '',
+        content: msg.content || '',
+        status: msg.status || 'RECEIVED',
+        timestamp: msg.timestamp || msg.createdAt || new Date().toISOString()
+    }))
+}
@@ -63,13 +63,17 @@ export async function getConversations(
 }
 
 /**
- * Lấy danh sách tin nhắn trong một cuộc hội thoại
+ * Lấy danh sách tin nhắn trong một cuộc hội thoại, mới nhất trước
  * GET /api/messages/messages
+ *
+ * - before: ID tin nhắn, lấy trang cũ hơn tin nhắn này
+ * - after: ID tin nhắn, lấy trang mới hơn tin nhắn này
  */
 export async function getMessages(
     conversationId: string,
-    page: number = 0,
-    perPage: number = 1000
+    perPage: number = 50,
+    before?: string,
+    after?: string
 ): Promise<{ data?: ChatMessage[]; error?: string }> {
     try {
         const token = localStorage.getItem('token')
@@ -79,9 +83,10 @@ export async function getMessages(
 
         const params = new URLSearchParams({
             conversationId: conversationId,
-            page: page.toString(),
             perPage: perPage.toString(),
         })
+        if (before) params.append('before', before)
+        if (after) params.append('after', after)
 
         const response = await fetch(`${API_BASE_URL}/messages?${params.toString()}`, {
             method: 'GET',